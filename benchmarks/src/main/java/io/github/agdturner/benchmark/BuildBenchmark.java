@@ -0,0 +1,282 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.benchmark;
+
+import io.github.agdturner.core.PageFactory;
+import io.github.agdturner.course.Course;
+import io.github.agdturner.course.coding.intro.cpp.process.CPP0;
+import io.github.agdturner.course.coding.intro.java.process.Java0;
+import io.github.agdturner.course.coding.intro.python.process.Python0;
+import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5003M;
+import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5990M;
+import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5995M;
+import io.github.agdturner.io.MemorySink;
+import io.github.agdturner.io.PageMetrics;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * An end-to-end build benchmark. Each course is built into a scratch
+ * directory using 1, 2, 4 and N threads where N is the number of available
+ * processors. Builds are run cold, each in a fresh JVM, and warm, in this JVM
+ * after some warm up builds. Each build is a row of a CSV file giving the
+ * number of pages, the bytes of the page files, pages per second, MB per
+ * second, the 50th and 99th percentile page latency and the bytes allocated
+ * per page.
+ *
+ * The latency of a page is the time taken to lay it out plus the time taken
+ * to render and write it, and the allocation for a page is the bytes
+ * allocated by the threads doing this. Both are from the {@link PageMetrics}
+ * of the page, so they do not depend on what tasks
+ * {@link Course#write(java.nio.file.Path, java.util.concurrent.ExecutorService)}
+ * submits to the executor. Pages are written even if unchanged.
+ *
+ * Options are:
+ * <ul>
+ * <li>{@code -c <course>} A course to build, repeatable. The default is all of
+ * {@link #COURSES}.</li>
+ * <li>{@code -t <n,...>} The numbers of threads.</li>
+ * <li>{@code -w <n>} The number of warm up builds for each course and number
+ * of threads.</li>
+ * <li>{@code -r <n>} The number of cold and of warm builds measured for each
+ * course and number of threads.</li>
+ * <li>{@code -o <file>} The CSV file to write.</li>
+ * <li>{@code -nocold} To skip cold builds.</li>
+ * <li>{@code -memory} To build into a {@link MemorySink} rather than to
+ * files.</li>
+ * </ul>
+ *
+ * @author Andy Turner
+ */
+public class BuildBenchmark {
+
+    /**
+     * The CSV header.
+     */
+    public static final String HEADER = "course,mode,threads,run,pages,bytes,"
+            + "seconds,pagesPerSecond,mbPerSecond,p50Millis,p99Millis,"
+            + "allocatedBytesPerPage";
+
+    /**
+     * For looking up how to create a course by name.
+     */
+    public static final TreeMap<String, Function<Path, Course>> COURSES
+            = new TreeMap<>();
+
+    static {
+        COURSES.put("Python0", Python0::create);
+        COURSES.put("Java0", Java0::create);
+        COURSES.put("CPP0", CPP0::create);
+        COURSES.put("GEOG5003M", GEOG5003M::create);
+        COURSES.put("GEOG5990M", GEOG5990M::create);
+        COURSES.put("GEOG5995M", GEOG5995M::create);
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args The options.
+     * @throws Exception If encountered.
+     */
+    public static void main(String[] args) throws Exception {
+        Logger.getLogger("io.github.agdturner").setLevel(Level.WARNING);
+        if (args.length == 6 && args[0].equals("-single")) {
+            // A cold build in a fresh JVM.
+            System.out.println(build(args[1], Paths.get(args[3]),
+                    Integer.parseInt(args[2]), "cold",
+                    Integer.parseInt(args[4]), Boolean.parseBoolean(args[5])));
+            return;
+        }
+        TreeSet<String> courses = new TreeSet<>();
+        int n = Runtime.getRuntime().availableProcessors();
+        TreeSet<Integer> threads = new TreeSet<>(List.of(1, 2, 4, n));
+        int warmups = 3;
+        int runs = 5;
+        boolean cold = true;
+        boolean memory = false;
+        Path out = Paths.get("build-benchmark.csv");
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-c" ->
+                    courses.add(args[++i]);
+                case "-t" -> {
+                    threads.clear();
+                    for (String s : args[++i].split(",")) {
+                        threads.add(Integer.valueOf(s));
+                    }
+                }
+                case "-w" ->
+                    warmups = Integer.parseInt(args[++i]);
+                case "-r" ->
+                    runs = Integer.parseInt(args[++i]);
+                case "-o" ->
+                    out = Paths.get(args[++i]);
+                case "-nocold" ->
+                    cold = false;
+                case "-memory" ->
+                    memory = true;
+                default ->
+                    throw new IllegalArgumentException("Unknown option "
+                            + args[i]);
+            }
+        }
+        if (courses.isEmpty()) {
+            courses.addAll(COURSES.keySet());
+        }
+        Path dir = Files.createTempDirectory("build-benchmark");
+        List<String> rows = new ArrayList<>();
+        rows.add(HEADER);
+        System.out.println(HEADER);
+        for (String course : courses) {
+            for (int t : threads) {
+                if (cold) {
+                    for (int r = 1; r <= runs; r++) {
+                        String row = buildCold(course, dir, t, r, memory);
+                        rows.add(row);
+                        System.out.println(row);
+                    }
+                }
+                for (int r = 0; r < warmups; r++) {
+                    build(course, dir, t, "warmup", r + 1, memory);
+                }
+                for (int r = 1; r <= runs; r++) {
+                    String row = build(course, dir, t, "warm", r, memory);
+                    rows.add(row);
+                    System.out.println(row);
+                }
+            }
+        }
+        Files.write(out, rows, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds course in a fresh JVM.
+     *
+     * @param course The name of the course.
+     * @param dir The directory in which the website directory is.
+     * @param nThreads The number of threads.
+     * @param run The run number for the CSV row.
+     * @param memory If true, then the build is into a {@link MemorySink}.
+     * @return The CSV row for the build.
+     * @throws IOException If encountered.
+     * @throws InterruptedException If interrupted.
+     */
+    public static String buildCold(String course, Path dir, int nThreads,
+            int run, boolean memory) throws IOException, InterruptedException {
+        String java = Paths.get(System.getProperty("java.home"), "bin", "java")
+                .toString();
+        java.lang.Process p = new ProcessBuilder(java, "-cp",
+                System.getProperty("java.class.path"),
+                BuildBenchmark.class.getName(), "-single", course,
+                Integer.toString(nThreads), dir.toString(),
+                Integer.toString(run), Boolean.toString(memory))
+                .redirectError(ProcessBuilder.Redirect.INHERIT).start();
+        String r = null;
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(
+                p.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                r = line;
+            }
+        }
+        if (p.waitFor() != 0 || r == null) {
+            throw new RuntimeException("Cold build of " + course + " failed");
+        }
+        return r;
+    }
+
+    /**
+     * Builds course in this JVM.
+     *
+     * @param course The name of the course.
+     * @param dir The directory in which the website directory is.
+     * @param nThreads The number of threads.
+     * @param mode The mode for the CSV row.
+     * @param run The run number for the CSV row.
+     * @param memory If true, then the build is into a {@link MemorySink}.
+     * @return The CSV row for the build.
+     */
+    public static String build(String course, Path dir, int nThreads,
+            String mode, int run, boolean memory) {
+        Function<Path, Course> factory = COURSES.get(course);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown course " + course
+                    + ", expected one of " + COURSES.keySet());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            long t = System.nanoTime();
+            Course c = factory.apply(dir);
+            c.incremental = false;
+            if (memory) {
+                c.sink = new MemorySink();
+            }
+            c.write(c.env.dir, executor);
+            double seconds = (System.nanoTime() - t) / 1E9;
+            List<PageMetrics> metrics = new ArrayList<>();
+            metrics.add(c.getHomePage().metrics);
+            for (PageFactory page : c.pages) {
+                metrics.add(page.getMetrics());
+            }
+            metrics.add(c.getIndex().metrics);
+            metrics.add(c.getReferences().metrics);
+            int n = metrics.size();
+            long bytes = 0;
+            long[] latency = new long[n];
+            long allocated = 0;
+            for (int i = 0; i < n; i++) {
+                PageMetrics m = metrics.get(i);
+                bytes += m.bytes;
+                latency[i] = m.getNanos();
+                allocated += m.allocatedBytes;
+            }
+            Arrays.sort(latency);
+            return String.format(Locale.ROOT,
+                    "%s,%s,%d,%d,%d,%d,%.3f,%.1f,%.3f,%.3f,%.3f,%d", course,
+                    mode, nThreads, run, n, bytes, seconds, n / seconds,
+                    bytes / 1E6 / seconds, percentile(latency, 50) / 1E6,
+                    percentile(latency, 99) / 1E6, allocated / n);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param sorted Values sorted into ascending order.
+     * @param p The percentile.
+     * @return The nearest rank percentile p of sorted.
+     */
+    public static long percentile(long[] sorted, int p) {
+        int rank = (int) Math.ceil(p / 100.0 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
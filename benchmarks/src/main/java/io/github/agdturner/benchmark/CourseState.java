@@ -0,0 +1,124 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.benchmark;
+
+import io.github.agdturner.core.Page;
+import io.github.agdturner.core.PageFactory;
+import io.github.agdturner.course.Course;
+import io.github.agdturner.course.coding.intro.cpp.process.CPP0;
+import io.github.agdturner.course.coding.intro.python.process.Python0;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A course fixture for benchmarks. The course is built into a temporary
+ * directory so that all its pages are laid out and all uses of index terms
+ * are recorded, as they are at the end of a real build.
+ *
+ * @author Andy Turner
+ */
+@State(Scope.Benchmark)
+public class CourseState {
+
+    /**
+     * The name of the course.
+     */
+    @Param({"Python0", "CPP0"})
+    public String courseName;
+
+    /**
+     * The temporary directory the course is built in.
+     */
+    public Path dir;
+
+    /**
+     * The course built.
+     */
+    public Course course;
+
+    /**
+     * A course not built, for constructing pages for without changing
+     * {@link #course}.
+     */
+    public Course scratch;
+
+    /**
+     * The page of {@link #course} with the most sections.
+     */
+    public Page page;
+
+    /**
+     * Creates a course.
+     *
+     * @param name The name of the course.
+     * @param dir The directory in which the website directory is.
+     * @return The course.
+     */
+    public static Course create(String name, Path dir) {
+        return switch (name) {
+            case "Python0" ->
+                Python0.create(dir);
+            case "CPP0" ->
+                CPP0.create(dir);
+            default ->
+                throw new IllegalArgumentException("Unknown course " + name);
+        };
+    }
+
+    /**
+     * Builds {@link #course}.
+     *
+     * @throws IOException If encountered.
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        dir = Files.createTempDirectory("benchmark");
+        course = create(courseName, dir);
+        course.write(course.env.dir);
+        scratch = create(courseName, dir);
+        // Pages are released once written, so construct and lay them out.
+        for (PageFactory f : course.pages) {
+            Page p = f.get();
+            p.layout();
+            if (page == null || p.sections.size() > page.sections.size()) {
+                page = p;
+            }
+        }
+    }
+
+    /**
+     * Deletes {@link #dir}.
+     *
+     * @throws IOException If encountered.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> s = Files.walk(dir)) {
+            for (Path p : s.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.benchmark;
+
+import io.github.agdturner.course.Dictionary;
+import io.github.agdturner.course.DictionaryFile;
+import io.github.agdturner.course.Index;
+import io.github.agdturner.course.Term;
+import io.github.agdturner.course.coding.cpp.CPPIndex;
+import io.github.agdturner.course.coding.python.PythonIndex;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link Index} and {@link Term}. The names used are a term
+ * and an alias of the general {@link Index#DICTIONARY} so that these are the
+ * same for each course.
+ *
+ * @author Andy Turner
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexBenchmark {
+
+    /**
+     * A term name.
+     */
+    public static final String TERM = "Variable";
+
+    /**
+     * An alias of {@link #TERM}.
+     */
+    public static final String ALIAS = "variables";
+
+    /**
+     * A name that is neither a term nor an alias.
+     */
+    public static final String MISS = "No such term";
+
+    /**
+     * @param s The course fixture.
+     * @return A new Index for the course.
+     */
+    @Benchmark
+    public Index construct(CourseState s) {
+        if (s.courseName.equals("CPP0")) {
+            return new CPPIndex(s.scratch, "index", "Index", "Index");
+        }
+        return new PythonIndex(s.scratch, "index", "Index", "Index");
+    }
+
+    /**
+     * @return A new general Dictionary loaded from its data file, see
+     * {@link DictionaryFile}. The descriptions of the terms are not parsed.
+     */
+    @Benchmark
+    public Dictionary loadDictionary() {
+        return new Dictionary(null, DictionaryFile.load(Index.class,
+                "terms.txt"));
+    }
+
+    /**
+     * @param s The course fixture.
+     * @return A link for {@link #TERM}.
+     */
+    @Benchmark
+    public String getReferenceHit(CourseState s) {
+        return s.course.getIndex().getReference(TERM);
+    }
+
+    /**
+     * @param s The course fixture.
+     * @return A link for {@link #ALIAS}.
+     */
+    @Benchmark
+    public String getReferenceAlias(CourseState s) {
+        return s.course.getIndex().getReference(ALIAS);
+    }
+
+    /**
+     * @param s The course fixture.
+     * @return null as {@link #MISS} is not in the index.
+     */
+    @Benchmark
+    public String getReferenceMiss(CourseState s) {
+        return s.course.getIndex().getReference(MISS);
+    }
+
+    /**
+     * @param s The course fixture.
+     * @return The link and description for {@link #TERM}.
+     */
+    @Benchmark
+    public String getLinkAndDescription(CourseState s) {
+        Index index = s.course.getIndex();
+        return index.dictionary.getTerm(TERM).getLinkAndDescription(index,
+                TERM);
+    }
+
+    /**
+     * @param s The course fixture.
+     * @return The main content of the index page.
+     */
+    @Benchmark
+    public String getMainContent(CourseState s) {
+        return s.course.getIndex().getMainContent();
+    }
+}
@@ -17,6 +17,11 @@ package io.github.agdturner;
 
 import io.github.agdturner.core.Environment;
 import io.github.agdturner.core.Site;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Java for generating GEOG5003M Website Content.
@@ -34,4 +39,17 @@ public class MySite extends Site {
     public MySite(Environment env, boolean localPaths) {
         super(env, localPaths);
     }
+
+    /**
+     * @return A list containing the images directory if it exists.
+     */
+    @Override
+    public List<Path> getAssetDirs() {
+        List<Path> r = new ArrayList<>();
+        Path images = Paths.get(env.dir.toString(), "images");
+        if (Files.isDirectory(images)) {
+            r.add(images);
+        }
+        return r;
+    }
 }
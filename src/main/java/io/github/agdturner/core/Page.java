@@ -15,11 +15,24 @@
  */
 package io.github.agdturner.core;
 
+import io.github.agdturner.course.Index;
+import io.github.agdturner.course.IndexTerm;
+import io.github.agdturner.io.Manifest;
+import io.github.agdturner.io.PageMetrics;
+import io.github.agdturner.io.RenderCache;
+import io.github.agdturner.jfr.ContentsEvent;
+import io.github.agdturner.jfr.PageRenderEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.TreeMap;
-import java.util.TreeSet;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import uk.ac.leeds.ccg.web.core.Web_Strings;
 import uk.ac.leeds.ccg.web.io.Web_ContentWriter;
 
@@ -85,6 +98,35 @@ public abstract class Page {
      */
     protected int subsubsectionNo;
 
+    /**
+     * The position of this page in the order in which the site is written.
+     * This is used to allocate SectionIDs so that they do not depend on the
+     * order in which pages are rendered.
+     */
+    protected int ordinal;
+
+    /**
+     * The main content of the page generated in the layout pass.
+     */
+    protected String mainContent;
+
+    /**
+     * If this is not null, then what is added is written to it rather than to
+     * {@link #w}. It is set by {@link Site} while the page is written in
+     * streaming mode (see {@link Site#streaming}).
+     */
+    protected Writer out;
+
+    /**
+     * Measurements of building this page.
+     */
+    public final PageMetrics metrics;
+
+    /**
+     * For hashing what is added to {@link #w} (see {@link #add(String)}).
+     */
+    protected final MessageDigest digest;
+
     /**
      * Create a new instance.
      *
@@ -99,11 +141,13 @@ public abstract class Page {
             PageID pageID, Path path) {
         this.site = site;
         this.w = new Web_ContentWriter();
+        this.digest = Manifest.getDigest();
         this.filename = filename;
         this.title = title;
         this.label = label;
         this.pageID = pageID;
         this.path = path;
+        this.metrics = new PageMetrics(filename);
         this.site.addPage(pageID, label, filename);
         this.sections = new TreeMap<>();
     }
@@ -112,14 +156,62 @@ public abstract class Page {
      * Write the header including: the dark/light style button and navigation.
      */
     protected void writeHeader() {
-        w.add("""
+        add("""
               <button id="style_button" onclick="swapStyle()"></button>
               """);
         if (!site.pages.isEmpty()) {
-            w.add(site.getNavigationLinks("nav"));
+            add(site.getNavigationLinks("nav"));
         }
     }
 
+    /**
+     * Adds s to {@link #w} (or {@link #out}) and to {@link #digest}.
+     *
+     * @param s The String to add.
+     */
+    public void add(String s) {
+        emit(s);
+        updateDigest(s);
+    }
+
+    /**
+     * Adds s to {@link #out} followed by a newline if {@link #out} is set,
+     * otherwise adds s to {@link #w}. This does not add s to {@link #digest}.
+     *
+     * @param s The String to add.
+     */
+    public void emit(String s) {
+        if (out == null) {
+            w.add(s);
+        } else {
+            try {
+                out.write(s);
+                out.write('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    /**
+     * Adds s to {@link #digest}. A zero byte is added after s so that the
+     * boundaries between Strings affect the hash.
+     *
+     * @param s The String to add.
+     */
+    public void updateDigest(String s) {
+        digest.update(s.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    /**
+     * @return The hash of what has been added to {@link #digest}. This resets
+     * {@link #digest}.
+     */
+    public String getHash() {
+        return Manifest.toHex(digest.digest());
+    }
+
     /**
      * For navigation to the next and optionally previous page.
      *
@@ -151,6 +243,28 @@ public abstract class Page {
         return getLink(p, "previous", linkClass, "Prev: ");
     }
 
+    /**
+     * Gets a link to the next page in the series.
+     *
+     * @param p The factory for the page.
+     * @param linkClass The class for the link element.
+     * @return a link to the next page in the series.
+     */
+    protected String getLinkNext(PageFactory p, String linkClass) {
+        return getLink(p.filename, p.label, "next", linkClass, "Next: ");
+    }
+
+    /**
+     * Gets a link to the previous page in the series.
+     *
+     * @param p The factory for the page.
+     * @param linkClass The class for the link element.
+     * @return a link to the previous page in the series.
+     */
+    protected String getLinkPrev(PageFactory p, String linkClass) {
+        return getLink(p.filename, p.label, "previous", linkClass, "Prev: ");
+    }
+
     /**
      * Gets a link to a page in the series.
      *
@@ -162,8 +276,23 @@ public abstract class Page {
      */
     protected String getLink(Page page, String linkID, String linkClass,
             String prepend) {
-        return Web_ContentWriter.getLink(site.getLinkPathString(page), linkID,
-                linkClass, prepend + page.label);
+        return getLink(page.filename, page.label, linkID, linkClass, prepend);
+    }
+
+    /**
+     * Gets a link to a page in the series.
+     *
+     * @param filename The filename of the page.
+     * @param label The label of the page.
+     * @param linkID The ID for the link element.
+     * @param linkClass The class for the link element.
+     * @param prepend Text prepended to the page label.
+     * @return a link to a page in the series.
+     */
+    protected String getLink(String filename, String label, String linkID,
+            String linkClass, String prepend) {
+        return Web_ContentWriter.getLink(site.getLinkPathString(filename),
+                linkID, linkClass, prepend + label);
     }
 
     /**
@@ -177,7 +306,7 @@ public abstract class Page {
      * @param sectionID The SectionID to add.
      */
     public void addToIndex(String name, SectionID sectionID) {
-        site.index.termToIndexTerm.get(name).sectionIDs.add(sectionID);
+        site.index.getIndexTerm(name).addSectionID(sectionID);
     }
 
     /**
@@ -233,36 +362,210 @@ public abstract class Page {
     private SectionID addSection(String inPageID, String sectionName,
             StringBuilder sb, int level) {
         w.addDIVST(sb);
-        SectionID sid = new SectionID(site.sectionIDs.size(), this, inPageID);
-        site.sectionIDs.add(sid);
+        SectionID sid = addSection(inPageID, sectionName, level);
+        sb.append(sections.get(sid).sectionHTML);
+        return sid;
+    }
+
+    /**
+     * Adds a Section to the site and to {@link #sections} and returns the
+     * SectionID.
+     *
+     * @param inPageID The in page section ID for linking.
+     * @param sectionName Section name.
+     * @param level For heading.
+     * @return SectionID
+     */
+    protected SectionID addSection(String inPageID, String sectionName,
+            int level) {
         String s = inPageID + ". " + sectionName;
-        site.addSection(sid, pageID, label + ": " + s);
+        SectionID sid = site.addSection(this, inPageID, sectionName);
         String html = "<H" + level + " id=\"" + inPageID + "\">"
                 + s + "</H" + level + ">\n";
-        sb.append(html);
         String link = "<A href=\"#" + inPageID + "\">" + s + "</A>";
-        sections.put(sid, new Section(level, sid, html, link));
-        TreeSet<SectionID> sectionIDs = site.pageIDToSectionIDs.get(pageID);
-        sectionIDs.add(sid);
+        sections.put(sid, new Section(level, sid, sectionName, html, link));
         return sid;
     }
 
     /**
-     * For writing the page to file.
+     * For getting a link to a section of a page of the site. The section may
+     * be on a page that is laid out after this one, so what is returned is a
+     * placeholder that is replaced with the link when this page is written.
+     *
+     * @param filename The filename of the page with the section.
+     * @param sectionName The name of the section.
+     * @return A placeholder for a link to the section.
+     */
+    public String getSectionLink(String filename, String sectionName) {
+        return Site.SECTION_LINK_ST + Site.getSectionKey(filename, sectionName)
+                + Site.SECTION_LINK_ET;
+    }
+
+    /**
+     * The layout pass. This generates the main content of the page, which adds
+     * the page sections to the site and records the use of index terms. If
+     * the site has a {@link RenderCache} with an entry for this page with the
+     * key from {@link #getCacheKey()}, then the main content is from that and
+     * the sections and uses of index terms recorded with it are added
+     * instead (see {@link #replay(RenderCache.Entry)}). Likewise, if the site
+     * has a {@link SharedRender} that this page is in, then the main content
+     * is from that.
+     */
+    public void layout() {
+        long a = PageMetrics.getAllocatedBytes();
+        long r = Index.getReferenceCount();
+        long t = System.nanoTime();
+        RenderCache cache = site.renderCache;
+        String key = null;
+        RenderCache.Entry e = null;
+        if (isCacheable()) {
+            if (site.shared != null) {
+                e = site.shared.get(this);
+            }
+            if (e == null && cache != null) {
+                key = getCacheKey();
+                e = key == null ? null : cache.get(filename, key);
+            }
+        }
+        if (e == null) {
+            mainContent = getMainContent();
+            if (key != null) {
+                try {
+                    cache.put(filename, getCacheEntry(key));
+                } catch (IOException ex) {
+                    Logger.getLogger(Page.class.getName()).log(Level.SEVERE,
+                            null, ex);
+                }
+            }
+        } else {
+            replay(e);
+        }
+        metrics.cached = e != null;
+        metrics.mainContentNanos = System.nanoTime() - t;
+        metrics.references = Index.getReferenceCount() - r;
+        metrics.allocatedBytes = PageMetrics.getAllocatedBytes() - a;
+    }
+
+    /**
+     * @return true if the main content of this page depends only on what is
+     * hashed in {@link #getCacheKey()}, so it can be stored in and got from a
+     * {@link RenderCache}.
+     */
+    protected boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * @return A key for this page in the {@link RenderCache} of the site. This
+     * is a hash of the bytecode of the class of this page and its
+     * superclasses, {@link Site#getCacheParameters()}, the parameters of this
+     * page and the version of the dictionary of the site index. It is null if
+     * the bytecode cannot be read.
+     */
+    protected String getCacheKey() {
+        String classHash = site.renderCache.getClassHash(getClass());
+        if (classHash == null) {
+            return null;
+        }
+        List<String> parts = site.getCacheParameters();
+        parts.add(classHash);
+        parts.add(filename);
+        parts.add(title);
+        parts.add(label);
+        parts.add(pageID.toString());
+        parts.add(Integer.toString(ordinal));
+        parts.add(path.toString());
+        parts.add(site.index == null ? null
+                : site.index.dictionary.getVersion());
+        return RenderCache.getKey(parts);
+    }
+
+    /**
+     * @param key The key.
+     * @return A cache entry of the {@link #mainContent}, the {@link #sections}
+     * and the uses of index terms in them.
+     */
+    protected RenderCache.Entry getCacheEntry(String key) {
+        RenderCache.Entry r = new RenderCache.Entry(key);
+        for (Section s : sections.values()) {
+            r.sections.add(new RenderCache.Section(s.level,
+                    s.sid.getInPageID(), s.name));
+        }
+        if (site.index != null) {
+            for (int i = 0; i < site.index.indexTerms.length(); i++) {
+                IndexTerm it = site.index.indexTerms.get(i);
+                if (it != null) {
+                    synchronized (it.sectionIDs) {
+                        for (SectionID sid : sections.keySet()) {
+                            if (it.sectionIDs.contains(sid)) {
+                                r.addTerm(sid.getInPageID(),
+                                        site.index.dictionary.getName(i));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        r.mainContent = mainContent;
+        return r;
+    }
+
+    /**
+     * Sets the {@link #mainContent} from e and adds the sections and uses of
+     * index terms recorded in e as generating the main content would.
+     *
+     * @param e The cache entry.
+     */
+    protected void replay(RenderCache.Entry e) {
+        TreeMap<String, SectionID> sids = new TreeMap<>();
+        for (RenderCache.Section s : e.sections) {
+            sids.put(s.inPageID, addSection(s.inPageID, s.name, s.level));
+        }
+        for (var x : e.terms.entrySet()) {
+            for (String term : x.getValue()) {
+                addToIndex(term, sids.get(x.getKey()));
+            }
+        }
+        mainContent = e.mainContent;
+    }
+
+    /**
+     * For writing the page to file. This is the emit pass: it only reads the
+     * site state recorded in the layout pass, so pages that have all been
+     * laid out can be written concurrently.
      */
     public void write() {
+        PageRenderEvent event = new PageRenderEvent();
+        event.begin();
+        if (mainContent == null) {
+            layout();
+        }
         writeHeader();
         writeH1();
-        String page = getMainContent();
+        ContentsEvent contentsEvent = new ContentsEvent();
+        contentsEvent.begin();
+        long t = System.nanoTime();
         String contents = getContents();
+        metrics.contentsNanos = System.nanoTime() - t;
+        if (contentsEvent.shouldCommit()) {
+            contentsEvent.set(site.getName(), label,
+                    contents == null ? 0L : contents.length(), sections.size());
+            contentsEvent.commit();
+        }
         if (contents != null) {
-            w.add(contents);
+            add(contents);
+        }
+        add(site.rewriteAssets(this,
+                site.resolveSectionLinks(this, mainContent)));
+        if (event.shouldCommit()) {
+            event.set(site.getName(), label, mainContent.length(),
+                    sections.size());
+            event.commit();
         }
-        w.add(page);
     }
 
     public void writeH1() {
-        w.add(Web_Strings.H1_ST + title + Web_Strings.H1_ET);
+        add(Web_Strings.H1_ST + title + Web_Strings.H1_ET);
     }
 
     /**
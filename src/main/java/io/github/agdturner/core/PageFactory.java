@@ -0,0 +1,255 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.core;
+
+import io.github.agdturner.io.PageMetrics;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A factory for a page. This holds only what other pages need to know about
+ * the page before it is constructed: the {@link #pageID}, {@link #filename},
+ * {@link #label} and {@link #path}. The page is constructed when it is to be
+ * laid out or written (see {@link #get()}) and released once it is written
+ * (see {@link #release()}), so the pages of a site need not all be held in
+ * memory at once. If a page is released once laid out, then what it was laid
+ * out to is kept and given to the page when it is constructed again, so it
+ * is not laid out again. The main content may be kept in a file rather than
+ * in memory (see {@link #release(Path)}).
+ *
+ * A factory may instead hold a page that is never released, such as an index
+ * page that other pages refer to.
+ *
+ * @author Andy Turner
+ */
+public class PageFactory {
+
+    /**
+     * The PageID of the page.
+     */
+    public final PageID pageID;
+
+    /**
+     * The filename of the page.
+     */
+    public final String filename;
+
+    /**
+     * The label of the page.
+     */
+    public final String label;
+
+    /**
+     * The path of the page.
+     */
+    public final Path path;
+
+    /**
+     * For constructing the page given {@link #pageID}.
+     */
+    protected final Function<PageID, ? extends Page> factory;
+
+    /**
+     * If true, then the page is held and {@link #release()} does nothing.
+     */
+    protected final boolean held;
+
+    /**
+     * The position of the page in the order in which the site is written.
+     * This is set by the {@link Site}.
+     */
+    protected int ordinal;
+
+    /**
+     * The page if it is constructed and not released, otherwise null.
+     */
+    protected Page page;
+
+    /**
+     * The metrics of the page last constructed, or null if the page has not
+     * been constructed.
+     */
+    protected PageMetrics metrics;
+
+    /**
+     * The main content of the page when it was last released if it had been
+     * laid out, otherwise null.
+     */
+    protected String mainContent;
+
+    /**
+     * The file the main content of the page was written to when it was
+     * released if it had been laid out and was released with a directory,
+     * otherwise null.
+     */
+    protected Path mainContentFile;
+
+    /**
+     * The sections of the page when it was last released if it had been laid
+     * out, otherwise null.
+     */
+    protected TreeMap<SectionID, Section> sections;
+
+    /**
+     * Create a new instance.
+     *
+     * @param pageID What {@link #pageID} is set to.
+     * @param filename What {@link #filename} is set to.
+     * @param label What {@link #label} is set to.
+     * @param path What {@link #path} is set to.
+     * @param factory What {@link #factory} is set to.
+     */
+    public PageFactory(PageID pageID, String filename, String label,
+            Path path, Function<PageID, ? extends Page> factory) {
+        this.pageID = pageID;
+        this.filename = filename;
+        this.label = label;
+        this.path = path;
+        this.factory = factory;
+        this.held = false;
+    }
+
+    /**
+     * Create a new instance that holds page.
+     *
+     * @param page The page.
+     */
+    public PageFactory(Page page) {
+        this.pageID = page.pageID;
+        this.filename = page.filename;
+        this.label = page.label;
+        this.path = page.path;
+        this.factory = id -> page;
+        this.held = true;
+        this.page = page;
+        this.metrics = page.metrics;
+    }
+
+    /**
+     * @return The page, constructing it if it is not constructed. If the page
+     * was laid out before it was last released, then the constructed page is
+     * given the main content, sections and layout metrics it had.
+     */
+    public synchronized Page get() {
+        if (page == null) {
+            page = factory.apply(pageID);
+            if (mainContentFile != null) {
+                try {
+                    mainContent = Files.readString(mainContentFile,
+                            StandardCharsets.UTF_8);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            }
+            if (mainContent != null) {
+                page.mainContent = mainContent;
+                page.sections = sections;
+                page.metrics.cached = metrics.cached;
+                page.metrics.mainContentNanos = metrics.mainContentNanos;
+                page.metrics.references = metrics.references;
+                page.metrics.allocatedBytes = metrics.allocatedBytes;
+                mainContent = null;
+                sections = null;
+            }
+            metrics = page.metrics;
+        }
+        page.ordinal = ordinal;
+        return page;
+    }
+
+    /**
+     * Releases the page unless it is held. The page is constructed again if
+     * it is needed again. If the page has been laid out and its main content
+     * has not been released, then this is kept for when the page is
+     * constructed again.
+     */
+    public synchronized void release() {
+        if (!held && page != null) {
+            mainContent = page.mainContent;
+            sections = mainContent == null ? null : page.sections;
+            page = null;
+        }
+    }
+
+    /**
+     * Releases the page as for {@link #release()}, but the main content is
+     * written to a file in dir and read from it when the page is constructed
+     * again rather than kept in memory. Only the sections are kept in memory.
+     * The file is written once and deleted when the page is discarded (see
+     * {@link #discard()}). If the file cannot be written, then the main
+     * content is kept in memory.
+     *
+     * @param dir The directory to write the main content to.
+     */
+    public synchronized void release(Path dir) {
+        if (held || page == null) {
+            return;
+        }
+        if (page.mainContent != null && mainContentFile == null) {
+            Path file = Paths.get(dir.toString(), ordinal + ".html");
+            try {
+                Files.createDirectories(dir);
+                Files.writeString(file, page.mainContent,
+                        StandardCharsets.UTF_8);
+                mainContentFile = file;
+            } catch (IOException ex) {
+                Logger.getLogger(PageFactory.class.getName()).log(Level.SEVERE,
+                        null, ex);
+            }
+        }
+        release();
+        if (mainContentFile != null) {
+            mainContent = null;
+        }
+    }
+
+    /**
+     * Releases the page unless it is held and anything kept from laying it
+     * out. This is for once the page is written.
+     */
+    public synchronized void discard() {
+        if (!held) {
+            page = null;
+            mainContent = null;
+            sections = null;
+            if (mainContentFile != null) {
+                try {
+                    Files.deleteIfExists(mainContentFile);
+                } catch (IOException ex) {
+                    Logger.getLogger(PageFactory.class.getName()).log(
+                            Level.SEVERE, null, ex);
+                }
+                mainContentFile = null;
+            }
+        }
+    }
+
+    /**
+     * @return The metrics of the page last constructed, or null if the page
+     * has not been constructed.
+     */
+    public synchronized PageMetrics getMetrics() {
+        return metrics;
+    }
+}
@@ -32,6 +32,11 @@ public class Section {
      */
     public final SectionID sid;
 
+    /**
+     * The section name.
+     */
+    public final String name;
+
     /**
      * The section HTML fragment.
      */
@@ -47,13 +52,15 @@ public class Section {
      *
      * @param level What {@level #sid} is set to.
      * @param sid What {@link #sid} is set to.
+     * @param name What {@link #name} is set to.
      * @param sectionHTML What {@link #sectionHTML} is set to.
      * @param sectionLink What {@link #sectionLink} is set to.
      */
-    public Section(int level, SectionID sid, String sectionHTML,
+    public Section(int level, SectionID sid, String name, String sectionHTML,
             String sectionLink) {
         this.level = level;
         this.sid = sid;
+        this.name = name;
         this.sectionHTML = sectionHTML;
         this.sectionLink = sectionLink;
     }
@@ -28,9 +28,15 @@ public class SectionID extends Data_ID_int {
     private static final long serialVersionUID = 1L;
 
     /**
-     * The Page.
+     * The filename of the page. The page itself is not referred to so that
+     * it can be released once written (see {@link PageFactory}).
      */
-    private transient final Page page;
+    private final String filename;
+
+    /**
+     * The site.
+     */
+    private transient final Site site;
 
     /**
      * The in page section ID for linking.
@@ -41,22 +47,53 @@ public class SectionID extends Data_ID_int {
      * Create a new instance.
      * 
      * @param id What {@link #id} is set to.
-     * @param page What {@link #page} is set to.
+     * @param page The page, which {@link #filename} and {@link #site} are
+     * from.
      * @param inPageID What {@link #inPageID} is set to.
      */
     public SectionID(int id, Page page, String inPageID) {
         super(id);
-        this.page = page;
+        this.filename = page.filename;
+        this.site = page.site;
+        this.inPageID = inPageID;
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param id What {@link #id} is set to.
+     * @param site What {@link #site} is set to.
+     * @param filename What {@link #filename} is set to.
+     * @param inPageID What {@link #inPageID} is set to.
+     */
+    public SectionID(int id, Site site, String filename, String inPageID) {
+        super(id);
+        this.filename = filename;
+        this.site = site;
         this.inPageID = inPageID;
     }
 
+    /**
+     * @return {@link #filename}
+     */
+    public String getFilename() {
+        return filename;
+    }
+
+    /**
+     * @return {@link #inPageID}
+     */
+    public String getInPageID() {
+        return inPageID;
+    }
+
     /**
      * @return A link to the section.
      */
     public String getLink() {
         return Web_ContentWriter.getLink(
-                "../" + page.filename + "/index.html#" + inPageID,
-                page.site.sectionIDToSectionName.get(this));
+                "../" + filename + "/index.html#" + inPageID,
+                site.sectionIDToSectionName.get(this));
     }
     
     @Override
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.core;
+
+import io.github.agdturner.io.RenderCache;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * A render of the pages of a template site that is shared by variants of it.
+ * The variants are sites of the same kind that differ only in the values of
+ * some parameters (see {@link Site#getVariantParameters()}). The template
+ * has tokens for these values (see {@link #getToken(String)}), so the main
+ * content of a page of a variant is that of the same page of the template
+ * with the tokens substituted with the values for the variant. Sections and
+ * uses of index terms are recorded with the main content as for a
+ * {@link RenderCache}, so laying out a shared page of a variant only
+ * replays these. Pages that are not cacheable (see
+ * {@link Page#isCacheable()}), such as the index, and pages of a different
+ * class in a variant than in the template are laid out for each variant.
+ *
+ * @author Andy Turner
+ */
+public class SharedRender {
+
+    /**
+     * The template.
+     */
+    public final Site template;
+
+    /**
+     * The tokens of {@link #template} for the parameters of variants.
+     */
+    public final List<String> tokens;
+
+    /**
+     * To look up the entry for a page from the filename.
+     */
+    protected final ConcurrentSkipListMap<String, RenderCache.Entry> entries;
+
+    /**
+     * To look up the class of a page of {@link #template} from the filename.
+     */
+    protected final ConcurrentSkipListMap<String, Class<?>> classes;
+
+    /**
+     * Create a new instance laying out the content pages of template.
+     *
+     * @param template What {@link #template} is set to.
+     * @param executor The executor to lay out pages with.
+     */
+    public SharedRender(Site template, ExecutorService executor) {
+        this.template = template;
+        this.tokens = template.getVariantParameters();
+        entries = new ConcurrentSkipListMap<>();
+        classes = new ConcurrentSkipListMap<>();
+        List<PageFactory> order = template.getPagesInWriteOrder();
+        Site.invokeAll(order.subList(0, order.size() - 2), executor,
+                factory -> {
+                    try {
+                        Page page = factory.get();
+                        if (page.isCacheable()) {
+                            page.layout();
+                            entries.put(page.filename,
+                                    page.getCacheEntry(""));
+                            classes.put(page.filename, page.getClass());
+                        }
+                    } finally {
+                        factory.discard();
+                    }
+                });
+    }
+
+    /**
+     * @param name The name of a parameter.
+     * @return A token for a parameter in a template.
+     */
+    public static String getToken(String name) {
+        return TOKEN_START + name + "}}";
+    }
+
+    /**
+     * The start of every token (see {@link #getToken(String)}).
+     */
+    public static final String TOKEN_START = "{{variant:";
+
+    /**
+     * @param page A page of a variant.
+     * @return An entry for page with the tokens substituted with the values
+     * of the parameters of the site of page, or null if page is not shared or
+     * if any token is left after substitution, as then the page of the
+     * template depends on something other than the parameters.
+     */
+    public RenderCache.Entry get(Page page) {
+        RenderCache.Entry e = entries.get(page.filename);
+        if (e == null || classes.get(page.filename) != page.getClass()
+                || !page.site.env.dir.equals(template.env.dir)
+                || page.site.localPaths != template.localPaths) {
+            return null;
+        }
+        List<String> values = page.site.getVariantParameters();
+        if (values.size() != tokens.size()) {
+            return null;
+        }
+        RenderCache.Entry r = new RenderCache.Entry(e.key);
+        for (RenderCache.Section s : e.sections) {
+            String name = substitute(s.name, values);
+            if (name.contains(TOKEN_START)) {
+                return null;
+            }
+            r.sections.add(new RenderCache.Section(s.level, s.inPageID, name));
+        }
+        r.terms.putAll(e.terms);
+        r.mainContent = substitute(e.mainContent, values);
+        if (r.mainContent.contains(TOKEN_START)) {
+            return null;
+        }
+        return r;
+    }
+
+    /**
+     * @param s The String.
+     * @param values The values of the parameters of a variant.
+     * @return s with each of {@link #tokens} replaced with the value at the
+     * same position in values.
+     */
+    public String substitute(String s, List<String> values) {
+        for (int i = 0; i < tokens.size(); i++) {
+            s = s.replace(tokens.get(i), values.get(i));
+        }
+        return s;
+    }
+}
@@ -16,14 +16,45 @@
 package io.github.agdturner.core;
 
 import io.github.agdturner.course.Index;
+import io.github.agdturner.course.IndexTerm;
 import io.github.agdturner.course.References;
+import io.github.agdturner.io.Assets;
+import io.github.agdturner.io.BuildReport;
+import io.github.agdturner.io.Compressor;
+import io.github.agdturner.io.DependencyGraph;
+import io.github.agdturner.io.FileSink;
+import io.github.agdturner.io.Manifest;
+import io.github.agdturner.io.Minifier;
+import io.github.agdturner.io.PageMetrics;
+import io.github.agdturner.io.RenderCache;
+import io.github.agdturner.io.Sink;
+import io.github.agdturner.jfr.FileWriteEvent;
 import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
 import java.util.TreeMap;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import uk.ac.leeds.ccg.web.core.Web_Strings;
@@ -37,6 +68,23 @@ import uk.ac.leeds.ccg.web.io.Web_ContentWriter;
  */
 public abstract class Site {
 
+    /**
+     * The number of low order bits of a SectionID reserved for the position of
+     * the section within a page. The remaining high order bits are the
+     * {@link Page#ordinal} of the page.
+     */
+    public static final int SECTION_ID_BITS = 16;
+
+    /**
+     * The start of a placeholder for a link to a section.
+     */
+    public static final String SECTION_LINK_ST = "<!--section:";
+
+    /**
+     * The end of a placeholder for a link to a section.
+     */
+    public static final String SECTION_LINK_ET = "-->";
+
     /**
      * The Environment.
      */
@@ -54,10 +102,11 @@ public abstract class Site {
     protected Page homePage;
 
     /**
-     * The Site Pages (other than the {@link #homePage}, {@link indexPage#index}
-     * and {@link #references}.
+     * Factories for the Site Pages (other than the {@link #homePage},
+     * {@link #index} and {@link #references}). Each page is constructed when
+     * it is laid out or written and released once written.
      */
-    public final ArrayList<Page> pages;
+    public final ArrayList<PageFactory> pages;
 
     /**
      * For storing the course Index Page.
@@ -70,49 +119,175 @@ public abstract class Site {
     protected References references;
 
     /**
-     * A set of all the Page IDs.
+     * A set of all the Page IDs. This and the other collections of IDs are
+     * concurrent so that pages can be constructed and rendered concurrently,
+     * and sorted so that iteration order does not vary between builds.
      */
-    public TreeSet<PageID> pageIDs;
+    public ConcurrentSkipListSet<PageID> pageIDs;
 
     /**
      * A set of all the Section IDs.
      */
-    public TreeSet<SectionID> sectionIDs;
+    public ConcurrentSkipListSet<SectionID> sectionIDs;
 
     /**
      * To look up the SectionIDs in a Page.
      */
-    public TreeMap<PageID, TreeSet<SectionID>> pageIDToSectionIDs;
+    public ConcurrentSkipListMap<PageID, ConcurrentSkipListSet<SectionID>>
+            pageIDToSectionIDs;
 
     /**
      * To look up a PageID from a SectionID.
      */
-    public TreeMap<SectionID, PageID> sectionIDToPageID;
+    public ConcurrentSkipListMap<SectionID, PageID> sectionIDToPageID;
 
     /**
      * To look up a Section Name from a SectionID.
      */
-    public TreeMap<SectionID, String> sectionIDToSectionName;
+    public ConcurrentSkipListMap<SectionID, String> sectionIDToSectionName;
+
+    /**
+     * To look up a SectionID from a section key (see
+     * {@link #getSectionKey(java.lang.String, java.lang.String)}).
+     */
+    public ConcurrentSkipListMap<String, SectionID> sectionKeyToSectionID;
 
     /**
      * To look up the name from the pageID.
      */
-    public HashMap<PageID, String> pageIDToName;
+    public ConcurrentSkipListMap<PageID, String> pageIDToName;
 
     /**
      * To look up the abbreviated name from the PageID.
      */
-    public HashMap<PageID, String> pageIDToNameA;
+    public ConcurrentSkipListMap<PageID, String> pageIDToNameA;
 
     /**
      * To look up the PageID from the abbreviated name.
      */
-    public HashMap<String, PageID> nameAToPageID;
+    public ConcurrentSkipListMap<String, PageID> nameAToPageID;
 
     /**
      * To look up a Link from a PageID.
      */
-    public HashMap<PageID, String> pageIDToLink;
+    public ConcurrentSkipListMap<PageID, String> pageIDToLink;
+
+    /**
+     * If true, then pages whose content has not changed since the last build
+     * are not written again.
+     */
+    public boolean incremental = true;
+
+    /**
+     * If true, then the date last modified in the footer of each page is the
+     * date that the content of the page was first built as recorded in the
+     * {@link #manifest} rather than the date of the build, so building the
+     * same sources again gives the same output.
+     */
+    public boolean reproducible = false;
+
+    /**
+     * If true, then each page is written to file as it is produced rather
+     * than being held in {@link Page#w} until it is complete, and the main
+     * content of each page is released once the page is written. This saves
+     * the copy of the whole page that would otherwise be held in
+     * {@link Page#w}, but not the main content: that is still built whole
+     * when the page is laid out (see {@link Page#layout()}) and held until
+     * the page is written, so the main content of a page is held in memory
+     * as well as the part of the output being written.
+     */
+    public boolean streaming = false;
+
+    /**
+     * If true, then once the site is written, gzip compressed siblings of the
+     * pages and text assets are written so that these can be served
+     * precompressed. See {@link Compressor}.
+     */
+    public boolean compress = false;
+
+    /**
+     * If true, then files referenced in pages are fingerprinted and the
+     * references rewritten to refer to the fingerprinted copies. See
+     * {@link Assets}.
+     */
+    public boolean fingerprint = false;
+
+    /**
+     * If true, then pages are minified as they are written. This implies
+     * {@link #streaming}. See {@link Minifier}.
+     */
+    public boolean minify = false;
+
+    /**
+     * If true, then a {@link BuildReport} of the {@link Page#metrics} is
+     * written to the build directory (see {@link #getBuildDir()}) at the end
+     * of a build.
+     */
+    public boolean report = false;
+
+    /**
+     * If true, then each of the {@link #pages} is also released once it is
+     * laid out, and constructed again when it is written. The main content it
+     * was laid out to is kept in between in a file in the directory given by
+     * {@link #getLazyDir()} and only its sections are kept in memory (see
+     * {@link PageFactory#release(Path)}), so it is not laid out again and the
+     * main content of only the pages being laid out or written is held in
+     * memory, however many pages there are.
+     */
+    public boolean lazy = false;
+
+    /**
+     * If true, then the main content of pages is stored in a
+     * {@link RenderCache} and got from it in later builds if what it is
+     * generated from is unchanged (see {@link Page#layout()}).
+     */
+    public boolean cache = false;
+
+    /**
+     * If not null, then pages, the files in the asset directories (see
+     * {@link #getAssetDirs()}) are written to this rather
+     * than to files, and pages are written as for {@link #streaming}. The
+     * {@link #manifest}, and so {@link #incremental} builds,
+     * {@link #fingerprint} and {@link #compress}, work with files, so these
+     * are only used if this is null.
+     */
+    public Sink sink;
+
+    /**
+     * The directory for the state of builds that is not published: the
+     * {@link RenderCache}, the {@link DependencyGraph} and the history of the
+     * {@link #manifest}. If null, then {@link #getBuildDir()} is used.
+     */
+    public Path buildDir;
+
+    /**
+     * If not null, then the main content of the pages in it is from this
+     * rather than generated (see {@link Page#layout()}).
+     */
+    public SharedRender shared;
+
+    /**
+     * The manifest for the current build.
+     */
+    protected Manifest manifest;
+
+    /**
+     * The fingerprinted assets for the current build. This is null unless
+     * {@link #fingerprint} is true.
+     */
+    protected Assets assets;
+
+    /**
+     * The render cache for the current build. This is null unless
+     * {@link #cache} is true.
+     */
+    protected RenderCache renderCache;
+
+    /**
+     * For each page minified in the current build, the path of the page file
+     * mapped to the number of characters before and after minification.
+     */
+    protected ConcurrentSkipListMap<String, long[]> minified;
 
     /**
      * Create a new instance.
@@ -124,15 +299,16 @@ public abstract class Site {
         this.env = env;
         this.localPaths = localPaths;
         pages = new ArrayList<>();
-        pageIDs = new TreeSet<>();
-        pageIDToName = new HashMap<>();
-        pageIDToNameA = new HashMap<>();
-        nameAToPageID = new HashMap<>();
-        pageIDToLink = new HashMap<>();
-        sectionIDs = new TreeSet<>();
-        pageIDToSectionIDs = new TreeMap<>();
-        sectionIDToPageID = new TreeMap<>();
-        sectionIDToSectionName = new TreeMap<>();
+        pageIDs = new ConcurrentSkipListSet<>();
+        pageIDToName = new ConcurrentSkipListMap<>();
+        pageIDToNameA = new ConcurrentSkipListMap<>();
+        nameAToPageID = new ConcurrentSkipListMap<>();
+        pageIDToLink = new ConcurrentSkipListMap<>();
+        sectionIDs = new ConcurrentSkipListSet<>();
+        pageIDToSectionIDs = new ConcurrentSkipListMap<>();
+        sectionIDToPageID = new ConcurrentSkipListMap<>();
+        sectionIDToSectionName = new ConcurrentSkipListMap<>();
+        sectionKeyToSectionID = new ConcurrentSkipListMap<>();
     }
 
     /**
@@ -144,15 +320,58 @@ public abstract class Site {
      * @param linkName The link name for the Page - this is to be unique and not
      * contain characters not allowed in a URL. In some cases it is the same as
      * pageName, in other cases it might be an abbreviation.
+     * If a page with pageID has already been added, then this does nothing,
+     * so a page that is constructed again (see {@link PageFactory#get()})
+     * keeps its registration and the SectionIDs recorded for it.
      */
     public void addPage(PageID pageID, String pageName, String linkName) {
-        pageIDs.add(pageID);
+        if (!pageIDs.add(pageID)) {
+            return;
+        }
         pageIDToName.put(pageID, linkName);
         pageIDToNameA.put(pageID, pageName);
         nameAToPageID.put(pageName, pageID);
         String link = Web_ContentWriter.getLink("../" + linkName + "/index.html", pageName);
         pageIDToLink.put(pageID, link);
-        pageIDToSectionIDs.put(pageID, new TreeSet<>());
+        pageIDToSectionIDs.put(pageID, new ConcurrentSkipListSet<>());
+    }
+
+    /**
+     * Adds factory to {@link #pages} and adds the page it is for to the site.
+     *
+     * @param factory The factory.
+     */
+    public void addPage(PageFactory factory) {
+        pages.add(factory);
+        addPage(factory.pageID, factory.label, factory.filename);
+    }
+
+    /**
+     * @param pageID The PageID of a page added to {@link #pages}.
+     * @return The factory for the page.
+     * @throws RuntimeException If there is no such page.
+     */
+    public PageFactory getPage(PageID pageID) {
+        for (PageFactory f : pages) {
+            if (f.pageID.equals(pageID)) {
+                return f;
+            }
+        }
+        throw new RuntimeException("Page " + pageID + " not added!");
+    }
+
+    /**
+     * @param filename The filename of a page.
+     * @return The factory for the page with filename in write order or null
+     * if there is no such page.
+     */
+    public PageFactory getPage(String filename) {
+        for (PageFactory f : getPagesInWriteOrder()) {
+            if (f.filename.equals(filename)) {
+                return f;
+            }
+        }
+        return null;
     }
 
     /**
@@ -162,11 +381,91 @@ public abstract class Site {
      * @param pageID The Page ID.
      * @param sectionName The name of the section.
      */
-    public void addSection(SectionID sectionID, PageID pageID, String sectionName) {
+    public void addSection(SectionID sectionID, PageID pageID,
+            String sectionName) {
         sectionIDToPageID.put(sectionID, pageID);
         sectionIDToSectionName.put(sectionID, sectionName);
     }
 
+    /**
+     * Creates and adds a SectionID for the next section of page. The id is
+     * derived from {@link Page#ordinal} and the number of sections already in
+     * the page, so it is the same whichever order pages are rendered in.
+     *
+     * @param page The page the section is in.
+     * @param inPageID The in page section ID for linking.
+     * @param sectionName The name of the section.
+     * @return The SectionID.
+     */
+    public SectionID addSection(Page page, String inPageID,
+            String sectionName) {
+        SectionID sid = new SectionID((page.ordinal << SECTION_ID_BITS)
+                + page.sections.size(), page, inPageID);
+        sectionIDs.add(sid);
+        addSection(sid, page.pageID,
+                page.label + ": " + inPageID + ". " + sectionName);
+        pageIDToSectionIDs.get(page.pageID).add(sid);
+        sectionKeyToSectionID.putIfAbsent(
+                getSectionKey(page.filename, sectionName), sid);
+        return sid;
+    }
+
+    /**
+     * @param filename The filename of a page.
+     * @param sectionName The name of a section of the page.
+     * @return A key for looking up the SectionID of the section. If a page has
+     * more than one section with the same name, the key is for the first.
+     */
+    public static String getSectionKey(String filename, String sectionName) {
+        return filename + "#" + sectionName;
+    }
+
+    /**
+     * Replaces the placeholders for links to sections in html (see
+     * {@link Page#getSectionLink(java.lang.String, java.lang.String)}) with
+     * links.
+     *
+     * @param page The page html is for.
+     * @param html The HTML.
+     * @return html with the section link placeholders replaced.
+     * @throws RuntimeException If a placeholder is not closed or is for a
+     * section that is not found.
+     */
+    public String resolveSectionLinks(Page page, String html) {
+        int i = html.indexOf(SECTION_LINK_ST);
+        if (i < 0) {
+            return html;
+        }
+        StringBuilder sb = new StringBuilder(html.length());
+        int j = 0;
+        while (i >= 0) {
+            sb.append(html, j, i);
+            int k = html.indexOf(SECTION_LINK_ET,
+                    i + SECTION_LINK_ST.length());
+            if (k < 0) {
+                throw new RuntimeException("Section link at " + i + " in page "
+                        + page.filename + " is not closed!");
+            }
+            String key = html.substring(i + SECTION_LINK_ST.length(), k);
+            SectionID sid = sectionKeyToSectionID.get(key);
+            if (sid == null) {
+                throw new RuntimeException("Section " + key + " not found!");
+            }
+            sb.append(sid.getLink());
+            j = k + SECTION_LINK_ET.length();
+            i = html.indexOf(SECTION_LINK_ST, j);
+        }
+        sb.append(html, j, html.length());
+        return sb.toString();
+    }
+
+    /**
+     * @return The name of the site for reports and events.
+     */
+    public String getName() {
+        return getClass().getSimpleName();
+    }
+
     /**
      * For getting all navigation buttons.
      * @param linkClass The HTML class for the navigation links.
@@ -180,9 +479,9 @@ public abstract class Site {
         sb.append(Web_ContentWriter.getLink(getLinkPathString(homePage),
                 homePage.filename, linkClass, homePage.label));
         sb.append(" ");
-        for (Page page : pages) {
-            sb.append(Web_ContentWriter.getLink(getLinkPathString(page),
-                    page.filename, linkClass, page.label));
+        for (PageFactory page : pages) {
+            sb.append(Web_ContentWriter.getLink(getLinkPathString(
+                    page.filename), page.filename, linkClass, page.label));
             sb.append(" ");
         }
         sb.append(Web_ContentWriter.getLink(getLinkPathString(index),
@@ -195,45 +494,944 @@ public abstract class Site {
     }
 
     public String getLinkPathString(Page p) {
-        return "../" + p.filename + "/index.html";
+        return getLinkPathString(p.filename);
+    }
+
+    /**
+     * @param filename The filename of a page.
+     * @return The relative path for linking to the page.
+     */
+    public String getLinkPathString(String filename) {
+        return "../" + filename + "/index.html";
+    }
+
+    /**
+     * @return Factories for the pages in the order they are written: the
+     * {@link #homePage}, the {@link #pages}, then {@link #index} and
+     * {@link #references}. The {@link #homePage}, {@link #index} and
+     * {@link #references} are held. The {@link Page#ordinal} of each page is
+     * set to its position in this order.
+     */
+    protected List<PageFactory> getPagesInWriteOrder() {
+        ArrayList<PageFactory> r = new ArrayList<>();
+        r.add(new PageFactory(homePage));
+        r.addAll(pages);
+        r.add(new PageFactory(index));
+        r.add(new PageFactory(references));
+        for (int i = 0; i < r.size(); i++) {
+            r.get(i).ordinal = i;
+        }
+        return r;
+    }
+
+    /**
+     * @return The path of the build manifest file.
+     */
+    public Path getManifestPath() {
+        return Paths.get(env.dir.toString(), "build-manifest.txt");
+    }
+
+    /**
+     * @return {@link #buildDir} or if that is null, a directory named
+     * {@link #getName()} in a directory named "build" next to the website
+     * directory, so that the state of builds is not published.
+     */
+    public Path getBuildDir() {
+        if (buildDir != null) {
+            return buildDir;
+        }
+        return Paths.get(env.dir.toAbsolutePath().getParent().toString(),
+                "build", getName());
+    }
+
+    /**
+     * @return The path of the {@link DependencyGraph} file, which is in the
+     * build directory (see {@link #getBuildDir()}).
+     */
+    public Path getGraphPath() {
+        return Paths.get(getBuildDir().toString(), "build-graph.txt");
+    }
+
+    /**
+     * @return The path of the history file of the build manifest, which is in
+     * the build directory (see {@link #getBuildDir()}).
+     */
+    public Path getHistoryPath() {
+        return Paths.get(getBuildDir().toString(), "build-history.txt");
+    }
+
+    /**
+     * @return The directory in which the main content of pages is kept
+     * between laying them out and writing them if {@link #lazy} is true,
+     * which is in the build directory (see {@link #getBuildDir()}).
+     */
+    public Path getLazyDir() {
+        return Paths.get(getBuildDir().toString(), "lazy");
+    }
+
+    /**
+     * @return The directory of the {@link RenderCache}, which is in the build
+     * directory (see {@link #getBuildDir()}).
+     */
+    public Path getRenderCacheDir() {
+        return Paths.get(getBuildDir().toString(), "render-cache");
+    }
+
+    /**
+     * @return The parameters of the site that the main content of pages may
+     * depend on for the keys of the {@link RenderCache}: the class, the name,
+     * {@link #localPaths}, the directory and the filenames and labels of the
+     * pages in write order.
+     */
+    public List<String> getCacheParameters() {
+        List<String> r = new ArrayList<>();
+        r.add(getClass().getName());
+        r.add(getName());
+        r.add(Boolean.toString(localPaths));
+        r.add(env.dir.toString());
+        for (PageFactory page : getPagesInWriteOrder()) {
+            r.add(page.filename);
+            r.add(page.label);
+        }
+        return r;
+    }
+
+    /**
+     * @return A site with the same pages as this, but with a
+     * {@link SharedRender#getToken(String)} for each of
+     * {@link #getVariantParameters()}, or null if this site has no variants.
+     */
+    public Site getVariantTemplate() {
+        return null;
+    }
+
+    /**
+     * @return The values of the parameters that variants of this site differ
+     * in.
+     */
+    public List<String> getVariantParameters() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * @return The directories of asset files to record in the build manifest.
+     */
+    public List<Path> getAssetDirs() {
+        return new ArrayList<>();
+    }
+
+    /**
+     * @return The directory that references starting with "/" in pages are
+     * relative to.
+     */
+    public Path getAssetRoot() {
+        return env.dir;
+    }
+
+    /**
+     * @param page The page.
+     * @param html Some HTML for page.
+     * @return html with references to files rewritten to refer to
+     * fingerprinted copies if {@link #fingerprint} is true, otherwise html.
+     */
+    public String rewriteAssets(Page page, String html) {
+        if (assets == null) {
+            return html;
+        }
+        return assets.rewrite(page.path, html);
+    }
+
+    /**
+     * @param page The page.
+     * @return The head elements of page with references to files rewritten as
+     * for {@link #rewriteAssets(Page, String)}.
+     */
+    protected List<String> getHeadElements(Page page) {
+        List<String> r = new ArrayList<>();
+        for (String headElement : page.getHeadElements()) {
+            r.add(rewriteAssets(page, headElement));
+        }
+        return r;
+    }
+
+    /**
+     * Loads the build manifest from the previous build unless {@link #sink}
+     * is not null. If {@link #fingerprint} is true, then {@link #assets} is
+     * also initialised. If {@link #cache} is true, then
+     * {@link #renderCache} is initialised.
+     */
+    protected void openManifest() {
+        assets = fingerprint && sink == null ? new Assets(getAssetRoot()) : null;
+        renderCache = cache ? new RenderCache(getRenderCacheDir()) : null;
+        minified = new ConcurrentSkipListMap<>();
+        if (sink != null) {
+            manifest = null;
+            return;
+        }
+        try {
+            manifest = new Manifest(getManifestPath(), getHistoryPath());
+        } catch (IOException ex) {
+            Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+        }
+    }
+
+    /**
+     * Records the assets in the build manifest, writes it and logs a report of
+     * what changed. If {@link #compress} is true, then compressed siblings of
+     * the files are written first. If {@link #fingerprint} is true, then
+     * asset metadata and cache headers are written next to the manifest, the
+     * fingerprinted copies are recorded in it and those of the previous build
+     * that are no longer referred to are deleted. If
+     * {@link #report} is true, then a build report is written to the build
+     * directory.
+     * The assets are written to {@link #sink} first if it is not null (see
+     * {@link #writeAssets()}).
+     *
+     * @param executor The executor for compressing files.
+     */
+    protected void closeManifest(ExecutorService executor) {
+        writeAssets();
+        if (renderCache != null) {
+            Logger.getLogger(Site.class.getName()).info(
+                    renderCache.getReport());
+        }
+        if (assets != null) {
+            Path dir = getManifestPath().toAbsolutePath().getParent();
+            try {
+                assets.write(Paths.get(dir.toString(), "asset-manifest.txt"),
+                        Paths.get(dir.toString(), "asset-headers.txt"));
+                if (manifest != null) {
+                    for (Path copy : assets.getCopies()) {
+                        manifest.addCopy(copy);
+                    }
+                    manifest.deleteStaleCopies();
+                }
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+        if (report) {
+            Path dir = getBuildDir();
+            try {
+                writeReport(Paths.get(dir.toString(), "build-report.json"),
+                        Paths.get(dir.toString(), "build-report.html"));
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+        if (manifest != null) {
+            try {
+                for (Path dir : getAssetDirs()) {
+                    manifest.addAssets(dir);
+                }
+                if (!minified.isEmpty()) {
+                    Logger.getLogger(Site.class.getName()).info(
+                            getMinifiedReport());
+                }
+                if (compress) {
+                    Compressor compressor = new Compressor();
+                    compressor.compress(manifest, executor);
+                    Logger.getLogger(Site.class.getName()).info(
+                            compressor.getReport());
+                }
+                manifest.write();
+                Logger.getLogger(Site.class.getName()).info(
+                        manifest.getReport());
+                getGraph().write(getGraphPath());
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+
+    /**
+     * @return A {@link DependencyGraph} of the sections added and the uses of
+     * index terms recorded so far.
+     */
+    public DependencyGraph getGraph() {
+        DependencyGraph r = new DependencyGraph();
+        for (PageFactory page : getPagesInWriteOrder()) {
+            r.pages.add(page.filename);
+        }
+        for (SectionID sid : sectionIDs) {
+            r.sections.put(sid.getID(), new DependencyGraph.Section(
+                    sid.getID(), sid.getFilename(), sid.getInPageID(),
+                    sectionIDToSectionName.get(sid)));
+        }
+        for (var x : sectionKeyToSectionID.entrySet()) {
+            r.sectionKeys.put(x.getKey(), x.getValue().getID());
+        }
+        if (index != null) {
+            for (int i = 0; i < index.indexTerms.length(); i++) {
+                IndexTerm t = index.indexTerms.get(i);
+                if (t != null) {
+                    String name = index.dictionary.getName(i);
+                    synchronized (t.sectionIDs) {
+                        for (SectionID sid : t.sectionIDs) {
+                            r.addTerm(name, sid.getID());
+                        }
+                    }
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Adds the sections of a page and the uses of index terms in them from a
+     * graph of a previous build, as laying out the page would.
+     *
+     * @param graph The graph.
+     * @param page The factory for the page.
+     */
+    protected void restore(DependencyGraph graph, PageFactory page) {
+        HashMap<Integer, SectionID> sids = new HashMap<>();
+        for (DependencyGraph.Section s : graph.sections.values()) {
+            if (s.page.equals(page.filename)) {
+                SectionID sid = new SectionID(s.id, this, s.page, s.inPageID);
+                sids.put(s.id, sid);
+                sectionIDs.add(sid);
+                addSection(sid, page.pageID, s.name);
+                pageIDToSectionIDs.get(page.pageID).add(sid);
+            }
+        }
+        for (var x : graph.sectionKeys.entrySet()) {
+            SectionID sid = sids.get(x.getValue());
+            if (sid != null) {
+                sectionKeyToSectionID.putIfAbsent(x.getKey(), sid);
+            }
+        }
+        if (index != null) {
+            for (var x : graph.terms.entrySet()) {
+                int o = index.dictionary.getOrdinal(x.getKey());
+                if (o < 0) {
+                    continue;
+                }
+                for (int id : x.getValue()) {
+                    SectionID sid = sids.get(id);
+                    if (sid != null) {
+                        index.getIndexTerm(o).addSectionID(sid);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes a {@link BuildReport} of the {@link Page#metrics} of the pages.
+     * This is written to files rather than to {@link #sink} as it is not part
+     * of the site.
+     *
+     * @param json The path of the JSON file to write.
+     * @param html The path of the HTML file to write.
+     * @throws IOException If encountered.
+     */
+    public void writeReport(Path json, Path html) throws IOException {
+        List<PageMetrics> metrics = new ArrayList<>();
+        for (PageFactory page : getPagesInWriteOrder()) {
+            PageMetrics m = page.getMetrics();
+            if (m != null) {
+                metrics.add(m);
+            }
+        }
+        BuildReport r = new BuildReport(getName(), metrics);
+        Files.createDirectories(json.toAbsolutePath().getParent());
+        Files.writeString(json, r.toJSON(), StandardCharsets.UTF_8);
+        Files.createDirectories(html.toAbsolutePath().getParent());
+        Files.writeString(html, r.toHTML(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return {@link #sink} or if that is null a {@link FileSink}.
+     */
+    public Sink getSink() {
+        return sink == null ? FileSink.INSTANCE : sink;
+    }
+
+    /**
+     * If {@link #sink} is not null, then copies the files in the asset
+     * directories (see {@link #getAssetDirs()}) to it, so that what is
+     * written to it can be deployed. Otherwise the files are already where
+     * they are referred to from.
+     */
+    public void writeAssets() {
+        if (sink == null) {
+            return;
+        }
+        for (Path dir : getAssetDirs()) {
+            try (Stream<Path> files = Files.walk(dir)) {
+                for (Path file : files.filter(Files::isRegularFile).sorted()
+                        .toList()) {
+                    sink.copy(file, file);
+                }
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+
+    /**
+     * @return A report of the size reduction of each page minified.
+     */
+    public String getMinifiedReport() {
+        StringBuilder sb = new StringBuilder();
+        long in = 0;
+        long out = 0;
+        for (long[] v : minified.values()) {
+            in += v[0];
+            out += v[1];
+        }
+        sb.append(minified.size()).append(" pages minified, ")
+                .append(in - out).append(" of ").append(in)
+                .append(" characters removed.");
+        for (var x : minified.entrySet()) {
+            long[] v = x.getValue();
+            String key = manifest == null ? x.getKey()
+                    : manifest.getKey(Paths.get(x.getKey()));
+            sb.append("\nMinified: ").append(key).append(" ").append(v[0])
+                    .append(" -> ").append(v[1]).append(" characters (")
+                    .append(v[0] - v[1]).append(" removed)");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The layout pass: lays out each page in order so that all sections are
+     * added and all uses of index terms are recorded before any page is
+     * written.
+     *
+     * @param order The pages in write order.
+     */
+    protected void layout(List<PageFactory> order) {
+        for (PageFactory page : order) {
+            layout(page);
+        }
     }
 
     /**
-     * Write Pages.
+     * Constructs and lays out a page. If {@link #lazy} is true, then the page
+     * is then released.
+     *
+     * @param factory The factory for the page.
+     */
+    protected void layout(PageFactory factory) {
+        factory.get().layout();
+        if (lazy) {
+            factory.release(getLazyDir());
+        }
+    }
+
+    /**
+     * Lays out all the pages without writing them, so that any page can then
+     * be rendered (see {@link #render(PageFactory)}).
+     *
+     * @return Factories for the pages in write order.
+     */
+    public List<PageFactory> layout() {
+        List<PageFactory> order = getPagesInWriteOrder();
+        layout(order);
+        return order;
+    }
+
+    /**
+     * Write Pages. All pages are laid out before any are written.
      *
      * @param path The path.
      */
     public void write(Path path) {
-        write(homePage, path);
-        for (int j = 0; j < pages.size(); j++) {
-            write(pages.get(j), path);
+        openManifest();
+        List<PageFactory> order = getPagesInWriteOrder();
+        layout(order);
+        for (PageFactory page : order) {
+            write(page, path);
+        }
+        closeManifest(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Writes the page with filename without constructing the other
+     * {@link #pages}, unless it is the {@link #index} or the
+     * {@link #references}, which refer to all the pages, in which case all
+     * pages are laid out first. The build manifest and report are not
+     * written.
+     *
+     * @param path The path.
+     * @param filename The filename of the page.
+     */
+    public void write(Path path, String filename) {
+        List<PageFactory> order = getPagesInWriteOrder();
+        int n = order.size();
+        for (int i = 0; i < n; i++) {
+            PageFactory page = order.get(i);
+            if (page.filename.equals(filename)) {
+                openManifest();
+                if (i >= n - 2) {
+                    layout(order.subList(0, n - 2));
+                    layout(order.subList(n - 2, n));
+                }
+                write(page, path);
+                return;
+            }
+        }
+        throw new RuntimeException("Page " + filename + " not found!");
+    }
+
+    /**
+     * Write Pages using nThreads threads. The output is the same as for
+     * {@link #write(java.nio.file.Path)}.
+     *
+     * @param path The path.
+     * @param nThreads The number of threads to use.
+     */
+    public void write(Path path, int nThreads) {
+        ExecutorService executor = Executors.newFixedThreadPool(nThreads);
+        try {
+            write(path, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Write Pages concurrently using executor. The home page and the other
+     * content pages are laid out first. The {@link #index} and
+     * {@link #references} are only laid out once all of these are, so that
+     * every use of an index term has been recorded. Then all the pages are
+     * written.
+     *
+     * @param path The path.
+     * @param executor The executor to lay out and write pages with.
+     */
+    public void write(Path path, ExecutorService executor) {
+        List<PageFactory> order = getPagesInWriteOrder();
+        int n = order.size();
+        if (sink == null) {
+            for (PageFactory page : order) {
+                try {
+                    Files.createDirectories(page.path);
+                } catch (IOException ex) {
+                    Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+                }
+            }
+        }
+        openManifest();
+        invokeAll(order.subList(0, n - 2), executor, this::layout);
+        invokeAll(order.subList(n - 2, n), executor, this::layout);
+        invokeAll(order, executor, page -> write(page, path));
+        closeManifest(executor);
+    }
+
+    /**
+     * Writes only the pages with filenames and the {@link #index} if any of
+     * its entries change as a result. The sections and uses of index terms of
+     * the other pages are restored from the {@link DependencyGraph} of the
+     * previous build (see {@link #getGraphPath()}) rather than by laying them
+     * out, and they keep their entries in the build manifest. If there is no
+     * graph or the pages of the site have changed since it was written, then
+     * all pages are written. Filenames of pages not in this site are logged
+     * and skipped, so the same filenames can be given to several sites. If
+     * none are in this site, then nothing is written.
+     *
+     * @param path The path.
+     * @param filenames The filenames of the pages to write.
+     * @param executor The executor to lay out and write pages with.
+     */
+    public void write(Path path, Collection<String> filenames,
+            ExecutorService executor) {
+        List<PageFactory> order = getPagesInWriteOrder();
+        int n = order.size();
+        List<String> names = new ArrayList<>();
+        for (PageFactory page : order) {
+            names.add(page.filename);
+        }
+        TreeSet<String> unknown = new TreeSet<>(filenames);
+        unknown.removeAll(names);
+        if (!unknown.isEmpty()) {
+            Logger.getLogger(Site.class.getName()).info("Skipping pages not "
+                    + "in " + getName() + ": " + unknown);
+            filenames = new TreeSet<>(filenames);
+            filenames.removeAll(unknown);
+            if (filenames.isEmpty()) {
+                return;
+            }
+        }
+        DependencyGraph previous = null;
+        if (sink == null && Files.exists(getGraphPath())) {
+            try {
+                previous = DependencyGraph.read(getGraphPath());
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+        if (previous == null || !previous.pages.equals(names)) {
+            Logger.getLogger(Site.class.getName()).info("No graph of the "
+                    + "pages of " + getName() + " from a previous build, so "
+                    + "all pages are written.");
+            write(path, executor);
+            return;
+        }
+        openManifest();
+        List<PageFactory> content = new ArrayList<>();
+        List<PageFactory> selected = new ArrayList<>();
+        for (PageFactory page : order.subList(0, n - 2)) {
+            if (filenames.contains(page.filename)) {
+                content.add(page);
+                selected.add(page);
+            } else {
+                restore(previous, page);
+            }
+        }
+        invokeAll(content, executor, this::layout);
+        TreeSet<String> changed = previous.getChangedTerms(getGraph());
+        for (PageFactory page : order.subList(n - 2, n)) {
+            if (filenames.contains(page.filename)
+                    || (page.filename.equals(index.filename)
+                    && !changed.isEmpty())) {
+                selected.add(page);
+            } else {
+                restore(previous, page);
+            }
+        }
+        invokeAll(selected.subList(content.size(), selected.size()), executor,
+                this::layout);
+        invokeAll(selected, executor, page -> write(page, path));
+        if (manifest != null) {
+            for (PageFactory page : order) {
+                if (!selected.contains(page)) {
+                    manifest.addUnchanged(Paths.get(page.path.toString(),
+                            "index.html"));
+                }
+            }
+            manifest.keepCopies();
+        }
+        closeManifest(executor);
+        StringBuilder sb = new StringBuilder();
+        sb.append("Rebuilt ").append(selected.size()).append(" of ").append(n)
+                .append(" pages of ").append(getName()).append(".");
+        for (PageFactory page : selected) {
+            sb.append("\nRebuilt: ").append(page.filename);
+        }
+        for (String term : changed) {
+            sb.append("\nChanged index entry: ").append(term);
+        }
+        Logger.getLogger(Site.class.getName()).info(sb.toString());
+    }
+
+    /**
+     * Applies action to each of pages using executor and waits for them all
+     * to complete.
+     *
+     * @param pages The pages.
+     * @param executor The executor.
+     * @param action The action to apply to each page.
+     */
+    protected static void invokeAll(List<PageFactory> pages,
+            ExecutorService executor, Consumer<PageFactory> action) {
+        ArrayList<Future<?>> futures = new ArrayList<>();
+        for (PageFactory page : pages) {
+            futures.add(executor.submit(() -> action.accept(page)));
+        }
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
         }
-        write(index, path);
-        write(references, path);
     }
     
     /**
+     * @param hash The hash of the content of a page.
+     * @return If {@link #reproducible} is true, then the date recorded for
+     * hash in the {@link #manifest}, otherwise the date now.
+     */
+    protected String getDate(String hash) {
+        if (reproducible && manifest != null) {
+            return manifest.getDate(hash, LocalDate.now());
+        }
+        return LocalDate.now().toString();
+    }
+
+    /**
+     * Builds a site twice with {@link #reproducible} set to true and
+     * {@link #incremental} set to false and compares the hashes of the files
+     * written.
+     *
+     * @param factory For creating the site to build.
+     * @param path The path passed to {@link #write(java.nio.file.Path)}.
+     * @return The paths of files that differ between the builds. This is
+     * empty if the build is reproducible.
+     * @throws IOException If encountered.
+     */
+    public static List<String> checkReproducible(
+            Supplier<? extends Site> factory, Path path) throws IOException {
+        TreeMap<String, String> hashes0 = null;
+        TreeMap<String, String> hashes1 = null;
+        for (int i = 0; i < 2; i++) {
+            Site site = factory.get();
+            site.reproducible = true;
+            site.incremental = false;
+            site.write(path);
+            if (site.manifest == null) {
+                throw new IOException("No manifest for " + path);
+            }
+            hashes1 = site.manifest.hashWritten();
+            if (hashes0 == null) {
+                hashes0 = hashes1;
+            }
+        }
+        List<String> r = new ArrayList<>();
+        TreeSet<String> keys = new TreeSet<>(hashes0.keySet());
+        keys.addAll(hashes1.keySet());
+        for (String key : keys) {
+            if (!Objects.equals(hashes0.get(key), hashes1.get(key))) {
+                r.add(key);
+            }
+        }
+        if (r.isEmpty()) {
+            Logger.getLogger(Site.class.getName()).info("Build of "
+                    + keys.size() + " files is reproducible.");
+        } else {
+            Logger.getLogger(Site.class.getName()).warning("Build is not "
+                    + "reproducible, files differ: " + r);
+        }
+        return r;
+    }
+
+    /**
+     * Constructs page if need be, writes it and then releases it and anything
+     * kept from laying it out (see {@link PageFactory#discard()}).
+     *
+     * @param page The factory for the page to write.
+     * @param path The path of the file to write to.
+     */
+    protected void write(PageFactory page, Path path) {
+        try {
+            write(page.get(), path);
+        } finally {
+            page.discard();
+        }
+    }
+
+    /**
+     * Writes page. The footer date is not added to the page hash, so if
+     * {@link #incremental} is true and the hash is as recorded in the
+     * {@link #manifest} from the previous build, then the file is not written
+     * again and it keeps the date it was last modified. If {@link #streaming}
+     * or {@link #minify} is true or {@link #sink} is not null, then
+     * {@link #writeStreaming(Page)} is used.
+     *
      * @param page The page to write.
      * @param path The path of the file to write to.
      */
     protected void write(Page page, Path path) {
-        page.write();
+        PageMetrics m = page.metrics;
+        long allocated = m.allocatedBytes;
+        long a = PageMetrics.getAllocatedBytes();
+        Path file = Paths.get(page.path.toString(), "index.html");
+        try {
+            if (streaming || minify || sink != null) {
+                writeStreaming(page);
+                return;
+            }
+            long t = System.nanoTime();
+            page.write();
+            String title = page.title + " Page";
+            List<String> headElements = getHeadElements(page);
+            String hash = addFooter(page, title, headElements);
+            if (incremental && manifest != null
+                    && manifest.isUnchanged(file, hash)) {
+                manifest.addUnchanged(file);
+                return;
+            }
+            // Write page
+            try {
+                FileWriteEvent event = new FileWriteEvent();
+                event.begin();
+                page.w.writeHTML(page.path, "index", title, headElements);
+                m.writeNanos = System.nanoTime() - t - m.contentsNanos;
+                m.written = true;
+                if (event.shouldCommit()) {
+                    event.set(getName(), page.label, Files.size(file),
+                            page.sections.size());
+                    event.commit();
+                }
+                //page.w.writeHTML(path, "index", page.title + " Page", 
+                //        page.getHeadElements());
+                if (manifest != null) {
+                    manifest.addWritten(file, hash);
+                }
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        } finally {
+            m.allocatedBytes = allocated + PageMetrics.getAllocatedBytes() - a;
+            m.sections = page.sections.size();
+            m.file = manifest == null ? file.toString() : manifest.getKey(file);
+            try {
+                m.bytes = getSink().exists(file) ? getSink().size(file) : 0L;
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+        }
+    }
+
+    /**
+     * Adds the footer to page. The footer parts other than the date, title
+     * and headElements are added to the page hash first as the date may
+     * depend on the hash.
+     *
+     * @param page The page.
+     * @param title The title of the page.
+     * @param headElements The head elements of the page.
+     * @return The hash of the page.
+     */
+    protected String addFooter(Page page, String title,
+            List<String> headElements) {
+        String nav = page.getLinks("nav", false);
+        String cc0 = "https://creativecommons.org/share-your-work/public-domain/cc0/";
+        String licence = Web_Strings.P_ST + Web_ContentWriter.getLink(cc0, "CC0 Licence") + Web_Strings.P_ET;
+        page.updateDigest(Web_Strings.DIV_ST);
+        page.updateDigest(nav);
+        page.updateDigest(licence);
+        page.updateDigest(Web_Strings.DIV_ET);
+        page.updateDigest(title);
+        for (String headElement : headElements) {
+            page.updateDigest(headElement);
+        }
+        String hash = page.getHash();
         // Write footer
         // Add navigation
-        page.w.add(Web_Strings.DIV_ST);
-        page.w.add(page.getLinks("nav", false));
-        page.w.add(Web_Strings.P_ST + "Date last modified: " + LocalDate.now().toString() + Web_Strings.P_ET);
-        String cc0 = "https://creativecommons.org/share-your-work/public-domain/cc0/";
-        page.w.add(Web_Strings.P_ST + Web_ContentWriter.getLink(cc0, "CC0 Licence") + Web_Strings.P_ET);
-        page.w.add(Web_Strings.DIV_ET);
-        // Write page
+        page.emit(Web_Strings.DIV_ST);
+        page.emit(nav);
+        page.emit(Web_Strings.P_ST + "Date last modified: " + getDate(hash) + Web_Strings.P_ET);
+        page.emit(licence);
+        page.emit(Web_Strings.DIV_ET);
+        return hash;
+    }
+
+    /**
+     * Writes page to a temporary file as it is produced. Then, unless
+     * {@link #incremental} is false and the content is unchanged since the
+     * last build, the temporary file replaces the page file, otherwise it is
+     * deleted. Files are written using {@link #getSink()}. The main content
+     * of the page is released once written.
+     *
+     * @param page The page to write.
+     */
+    protected void writeStreaming(Page page) {
+        Path file = Paths.get(page.path.toString(), "index.html");
+        Path tmp = Paths.get(page.path.toString(), "index.html.tmp");
+        FileWriteEvent event = new FileWriteEvent();
+        event.begin();
+        Sink s = getSink();
         try {
-            page.w.writeHTML(page.path, "index", page.title + " Page", 
-                    page.getHeadElements());
-            //page.w.writeHTML(path, "index", page.title + " Page", 
-            //        page.getHeadElements());
-        } catch (IOException ex) {
+            long t = System.nanoTime();
+            String hash;
+            try (Writer fw = s.newWriter(tmp);
+                    Writer out = minify ? new Minifier(fw) : fw) {
+                if (minify) {
+                    page.updateDigest(Minifier.class.getName());
+                }
+                hash = write(page, out);
+                if (out instanceof Minifier m) {
+                    m.flush();
+                    minified.put(file.toString(), new long[]{m.getCountIn(),
+                        m.getCountOut()});
+                }
+            } finally {
+                page.mainContent = null;
+            }
+            if (incremental && manifest != null
+                    && manifest.isUnchanged(file, hash)) {
+                s.delete(tmp);
+                manifest.addUnchanged(file);
+                return;
+            }
+            s.move(tmp, file);
+            page.metrics.writeNanos = System.nanoTime() - t
+                    - page.metrics.contentsNanos;
+            page.metrics.written = true;
+            if (event.shouldCommit()) {
+                event.set(getName(), page.label, s.size(file),
+                        page.sections.size());
+                event.commit();
+            }
+            if (manifest != null) {
+                manifest.addWritten(file, hash);
+            }
+        } catch (IOException | UncheckedIOException ex) {
             Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
         }
     }
+
+    /**
+     * Writes the HTML for page to out as it is rendered.
+     *
+     * @param page The page to write.
+     * @param out The Writer to write to.
+     * @return The hash of the page.
+     * @throws IOException If encountered.
+     */
+    protected String write(Page page, Writer out) throws IOException {
+        String title = page.title + " Page";
+        List<String> headElements = getHeadElements(page);
+        page.out = out;
+        try {
+            out.write("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n"
+                    + "<meta charset=\"UTF-8\">\n<title>" + title
+                    + "</title>\n");
+            for (String headElement : headElements) {
+                out.write(headElement);
+                out.write('\n');
+            }
+            out.write("</head>\n<body>\n");
+            page.write();
+            String hash = addFooter(page, title, headElements);
+            out.write("</body>\n</html>\n");
+            return hash;
+        } finally {
+            page.out = null;
+        }
+    }
+
+    /**
+     * Renders page constructing it if need be. If {@link #lazy} is true, then
+     * the page is released once rendered.
+     *
+     * @param page The factory for the page to render.
+     * @return The HTML of the page.
+     */
+    public String render(PageFactory page) {
+        try {
+            return render(page.get());
+        } finally {
+            if (lazy) {
+                page.release(getLazyDir());
+            }
+        }
+    }
+
+    /**
+     * Renders page without writing it to file. The site must have been laid
+     * out (see {@link #layout()}). Pages can be rendered concurrently and
+     * repeatedly.
+     *
+     * @param page The page to render.
+     * @return The HTML of the page.
+     */
+    public String render(Page page) {
+        StringWriter sw = new StringWriter();
+        synchronized (page) {
+            try {
+                write(page, sw);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+        return sw.toString();
+    }
 }
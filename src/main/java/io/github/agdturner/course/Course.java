@@ -16,10 +16,16 @@
 package io.github.agdturner.course;
 
 import io.github.agdturner.core.Environment;
+import io.github.agdturner.core.PageFactory;
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.Site;
 import io.github.agdturner.course.pages.CourseHome;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Java for generating Website Content for a course.
@@ -28,6 +34,22 @@ import java.nio.file.Paths;
  */
 public abstract class Course extends Site {
 
+    /**
+     * The PageID of the course Home Page. The other course pages have PageIDs
+     * given by their position in {@link #pages}.
+     */
+    public static final PageID HOME_PAGE_ID = new PageID(-3);
+
+    /**
+     * The PageID of the course Index Page.
+     */
+    public static final PageID INDEX_PAGE_ID = new PageID(-2);
+
+    /**
+     * The PageID of the course References Page.
+     */
+    public static final PageID REFERENCES_PAGE_ID = new PageID(-1);
+
     /**
      * For storing the course Type e.g. python, java, cpp.
      */
@@ -73,6 +95,76 @@ public abstract class Course extends Site {
         this.courseDir = Paths.get(env.dir.toString(), courseCode, "public_html");
     }
 
+    /**
+     * Adds a factory for a page to {@link #pages}. The page is given the
+     * PageID of its position in {@link #pages} and is not constructed until
+     * it is laid out or written. The page takes its filename and label from
+     * this (see {@link CoursePage#CoursePage(Course, String, PageID)}).
+     *
+     * @param filename The filename of the page.
+     * @param label The label of the page.
+     * @param factory For constructing the page given its PageID.
+     */
+    protected final void addPage(String filename, String label,
+            Function<PageID, ? extends CoursePage> factory) {
+        addPage(new PageFactory(new PageID(pages.size()), filename, label,
+                Paths.get(courseDir.toString(), filename), factory));
+    }
+
+    /**
+     * @return The path of the build manifest file which is in the directory
+     * that contains {@link #courseDir}.
+     */
+    @Override
+    public Path getManifestPath() {
+        return Paths.get(env.dir.toString(), courseCode, "build-manifest.txt");
+    }
+
+    /**
+     * @return The parameters of the site followed by {@link #courseType},
+     * {@link #courseTypeCaptialised} and {@link #courseName}.
+     */
+    @Override
+    public List<String> getCacheParameters() {
+        List<String> r = super.getCacheParameters();
+        r.add(courseType);
+        r.add(courseTypeCaptialised);
+        r.add(courseName);
+        return r;
+    }
+
+    /**
+     * @return A list of {@link #courseCode} and {@link #courseName}.
+     */
+    @Override
+    public List<String> getVariantParameters() {
+        List<String> r = super.getVariantParameters();
+        r.add(courseCode);
+        r.add(courseName);
+        return r;
+    }
+
+    /**
+     * @return A list containing the course resources directory if it exists.
+     */
+    @Override
+    public List<Path> getAssetDirs() {
+        List<Path> r = new ArrayList<>();
+        Path resources = Paths.get(env.dir.toString(), courseCode, "resources");
+        if (Files.isDirectory(resources)) {
+            r.add(resources);
+        }
+        return r;
+    }
+
+    /**
+     * @return {@link #courseCode}
+     */
+    @Override
+    public String getName() {
+        return courseCode;
+    }
+
     /**
      * @return {@link #courseCode}
      */
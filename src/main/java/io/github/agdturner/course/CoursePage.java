@@ -16,14 +16,13 @@
 package io.github.agdturner.course;
 
 import io.github.agdturner.core.Page;
+import io.github.agdturner.core.PageFactory;
 import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.Section;
-import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.pages.CourseHome;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.TreeMap;
-import java.util.TreeSet;
 
 /**
  * Course Page.
@@ -45,7 +44,7 @@ public abstract class CoursePage extends Page {
     /**
      * Course Pages for convenience.
      */
-    protected final ArrayList<Page> pages;
+    protected final ArrayList<PageFactory> pages;
 
     /**
      * Course Home Page for convenience.
@@ -59,11 +58,12 @@ public abstract class CoursePage extends Page {
      * @param title What {@link #title} is set to.
      * @param label What {@link #label} is set to.
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public CoursePage(Course course, String filename, String title, String label) {
-        super(course, filename, title, label, new PageID(course.pages.size()),
+    public CoursePage(Course course, String filename, String title,
+            String label, PageID pageID) {
+        super(course, filename, title, label, pageID,
                 Paths.get(course.courseDir.toString(), filename));
-        course.addPage(pageID, label, filename);
         this.sections = new TreeMap<>();
         index = course.getIndex();
         references = course.getReferences();
@@ -72,6 +72,30 @@ public abstract class CoursePage extends Page {
         sectionNo = 1;
     }
 
+    /**
+     * Create a new instance of a page added to the course with
+     * {@link Course#addPage(String, String, java.util.function.Function)}.
+     * The filename and label are those the page was added with.
+     *
+     * @param course What {@link #site} is set to.
+     * @param title What {@link #title} is set to.
+     * @param pageID What {@link #pageID} is set to.
+     */
+    public CoursePage(Course course, String title, PageID pageID) {
+        this(course, course.getPage(pageID), title);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param course What {@link #site} is set to.
+     * @param page The factory the page was added with.
+     * @param title What {@link #title} is set to.
+     */
+    private CoursePage(Course course, PageFactory page, String title) {
+        this(course, page.filename, title, page.label, page.pageID);
+    }
+
     public String getLanguageReference() {
         Course c = getCourse();
         return getIndex(c).getReference(c.courseTypeCaptialised);
@@ -160,8 +184,7 @@ public abstract class CoursePage extends Page {
      */
     @Override
     public String getContents() {
-        TreeSet<SectionID> sids = site.pageIDToSectionIDs.get(pageID);
-        if (sids != null) {
+        if (!sections.isEmpty()) {
             StringBuilder sb = new StringBuilder();
             w.addDIVST(sb);
             w.addH2(sb, "Contents");
@@ -169,42 +192,39 @@ public abstract class CoursePage extends Page {
             boolean first = true;
             int level0 = 2;
             int level;
-            int count = 0;
-            for (var x : sids) {
-                Section section = sections.get(x);
-                if (section != null) {
-                    count ++;
-                    level = section.level;
-                    if (level > level0) {
-                        sb.append("\n");
-                        w.addIndent(sb, level0 - 1);
-                        w.addULST(sb);
-                    } else if (level < level0) {
-                        w.addLIET(sb);
-                        w.addIndent(sb, level - 1);
-                        w.addULET(sb);
-                        w.addIndent(sb, level - 1);
-                        w.addLIET(sb);
+            /**
+             * The sections of this page are iterated rather than
+             * site.pageIDToSectionIDs which may be being added to by other
+             * pages.
+             */
+            for (Section section : sections.values()) {
+                level = section.level;
+                if (level > level0) {
+                    sb.append("\n");
+                    w.addIndent(sb, level0 - 1);
+                    w.addULST(sb);
+                } else if (level < level0) {
+                    w.addLIET(sb);
+                    w.addIndent(sb, level - 1);
+                    w.addULET(sb);
+                    w.addIndent(sb, level - 1);
+                    w.addLIET(sb);
+                } else {
+                    if (first) {
+                        first = false;
                     } else {
-                        if (first) {
-                            first = false;
-                        } else {
-                            w.addLIET(sb);
-                        }
+                        w.addLIET(sb);
                     }
-                    w.addIndent(sb, level - 1);
-                    w.addLIST(sb, section.sectionLink);
-                    level0 = level;
                 }
+                w.addIndent(sb, level - 1);
+                w.addLIST(sb, section.sectionLink);
+                level0 = level;
             }
             for (int i = 2; i <= level0; i++) {
                 w.addLIET(sb);
                 w.addULET(sb);
             }
             w.addDIVET(sb);
-            if (count == 0) {
-                return "";
-            }
             return sb.toString();
         }
         return "";
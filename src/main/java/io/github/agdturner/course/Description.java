@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.course;
+
+import java.util.Set;
+
+/**
+ * A description parsed into segments. Text marked up with double quotes in a
+ * description is resolved as a term name or alias when the description is
+ * parsed, so that it can be rendered as a link without looking it up again.
+ *
+ * @author Andy Turner
+ */
+public class Description {
+
+    /**
+     * The dictionary terms are resolved in.
+     */
+    public final Dictionary dictionary;
+
+    /**
+     * The text of each segment.
+     */
+    private final String[] texts;
+
+    /**
+     * For each segment the ordinal in {@link #dictionary} of the term linked
+     * to or -1 if the segment is plain text.
+     */
+    private final int[] ordinals;
+
+    /**
+     * Create a new instance.
+     *
+     * @param dictionary What {@link #dictionary} is set to.
+     * @param description The description to parse.
+     * @param unresolved Text marked up with double quotes that does not
+     * resolve to a term is added to this. This may be null.
+     */
+    public Description(Dictionary dictionary, String description,
+            Set<String> unresolved) {
+        this.dictionary = dictionary;
+        String[] split = description.split("\"");
+        texts = new String[split.length];
+        ordinals = new int[split.length];
+        for (int i = 0; i < split.length; i++) {
+            if (i % 2 == 0) {
+                texts[i] = split[i];
+                ordinals[i] = -1;
+            } else {
+                ordinals[i] = dictionary.getOrdinal(split[i]);
+                if (ordinals[i] < 0) {
+                    texts[i] = "\"" + split[i] + "\"";
+                    if (unresolved != null) {
+                        unresolved.add(split[i]);
+                    }
+                } else {
+                    texts[i] = split[i];
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the description to sb.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param index The index links are to. This must use {@link #dictionary}.
+     */
+    public void append(StringBuilder sb, Index index) {
+        for (int i = 0; i < texts.length; i++) {
+            int o = ordinals[i];
+            if (o < 0) {
+                sb.append(texts[i]);
+            } else {
+                sb.append(dictionary.getTerm(o).getLinkWithin(index,
+                        dictionary.getName(o), texts[i]));
+            }
+        }
+    }
+}
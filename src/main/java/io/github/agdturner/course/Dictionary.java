@@ -0,0 +1,366 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.course;
+
+import io.github.agdturner.io.RenderCache;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A dictionary of terms and aliases for an {@link Index}. A dictionary is
+ * populated when it is constructed and is immutable thereafter, so a single
+ * instance can be shared by all the courses that use it. What is specific to
+ * a course, such as where terms are used, is held by the {@link Index} of
+ * that course in {@link IndexTerm} instances.
+ *
+ * @author Andy Turner
+ */
+public class Dictionary {
+
+    /**
+     * To look up a Term from a term name.
+     */
+    protected final TreeMap<String, Term> termToTerm;
+
+    /**
+     * These are aliases included in the index.
+     */
+    protected final TreeSet<String> aliasesToIndex;
+
+    /**
+     * A complete set of terms and aliases for the index.
+     */
+    protected final TreeSet<String> termsAndAliasesToIndex;
+
+    /**
+     * To look up a term name from an alias.
+     */
+    protected final TreeMap<String, String> aliasToTerm;
+
+    /**
+     * Set once the dictionary is populated after which it may not be changed.
+     */
+    private boolean immutable;
+
+    /**
+     * The term names in order. The position of a term name is the ordinal of
+     * the term. Set once the dictionary is populated.
+     */
+    private String[] names;
+
+    /**
+     * The terms in {@link #names} order. Set once the dictionary is populated.
+     */
+    private Term[] terms;
+
+    /**
+     * To look up the ordinal of a term from a term name or from an alias, with
+     * aliases of aliases already resolved. Set once the dictionary is
+     * populated.
+     */
+    private HashMap<String, Integer> nameToOrdinal;
+
+    /**
+     * The parsed descriptions of {@link #terms} in {@link #names} order. Set
+     * when a description is first got.
+     */
+    private Description[] descriptions;
+
+    /**
+     * Text marked up with double quotes in descriptions that does not resolve
+     * to a term. Set when a description is first got.
+     */
+    private TreeSet<String> unresolved;
+
+    /**
+     * A hash of the terms and aliases. Set when first got.
+     */
+    private String version;
+
+    /**
+     * The dictionary the terms and aliases of which are included or null.
+     */
+    private final Dictionary parent;
+
+    /**
+     * The file the further terms and aliases are from or null.
+     */
+    private DictionaryFile file;
+
+    /**
+     * Create a new instance.
+     *
+     * @param parent A dictionary the terms and aliases of which are included.
+     * The Term instances are shared with parent. This may be null.
+     * @param terms For adding further terms and aliases.
+     */
+    public Dictionary(Dictionary parent, Consumer<Dictionary> terms) {
+        this.parent = parent;
+        termToTerm = new TreeMap<>();
+        aliasesToIndex = new TreeSet<>();
+        termsAndAliasesToIndex = new TreeSet<>();
+        aliasToTerm = new TreeMap<>();
+        if (parent != null) {
+            termToTerm.putAll(parent.termToTerm);
+            aliasesToIndex.addAll(parent.aliasesToIndex);
+            termsAndAliasesToIndex.addAll(parent.termsAndAliasesToIndex);
+            aliasToTerm.putAll(parent.aliasToTerm);
+        }
+        terms.accept(this);
+        immutable = true;
+        compile();
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param parent A dictionary the terms and aliases of which are included.
+     * The Term instances are shared with parent. This may be null.
+     * @param file The file of further terms and aliases.
+     */
+    public Dictionary(Dictionary parent, DictionaryFile file) {
+        this(parent, file::addTo);
+        this.file = file;
+    }
+
+    /**
+     * Initialises {@link #names}, {@link #terms} and {@link #nameToOrdinal}.
+     * Term names take precedence over aliases. An alias that does not resolve
+     * to a term is left out.
+     */
+    private void compile() {
+        int n = termToTerm.size();
+        names = new String[n];
+        terms = new Term[n];
+        nameToOrdinal = new HashMap<>(
+                (int) ((n + aliasToTerm.size()) / 0.75f) + 1);
+        int i = 0;
+        for (var x : termToTerm.entrySet()) {
+            names[i] = x.getKey();
+            terms[i] = x.getValue();
+            nameToOrdinal.put(x.getKey(), i);
+            i++;
+        }
+        for (String alias : aliasToTerm.keySet()) {
+            if (!nameToOrdinal.containsKey(alias)) {
+                String term = aliasToTerm.get(alias);
+                int j = 0;
+                while (term != null && !termToTerm.containsKey(term)
+                        && j < aliasToTerm.size()) {
+                    term = aliasToTerm.get(term);
+                    j++;
+                }
+                if (term != null && termToTerm.containsKey(term)) {
+                    nameToOrdinal.put(alias, nameToOrdinal.get(term));
+                }
+            }
+        }
+    }
+
+    /**
+     * Initialises {@link #descriptions} and {@link #unresolved} if they are
+     * not initialised. Any unresolved text in descriptions is logged.
+     *
+     * @return {@link #descriptions}
+     */
+    private synchronized Description[] getDescriptions() {
+        if (descriptions == null) {
+            Description[] r = new Description[names.length];
+            unresolved = new TreeSet<>();
+            for (int i = 0; i < r.length; i++) {
+                String d = terms[i].getDescription();
+                if (d != null) {
+                    r[i] = new Description(this, d, unresolved);
+                }
+            }
+            if (!unresolved.isEmpty()) {
+                Logger.getLogger(Dictionary.class.getName()).log(
+                        Level.WARNING, "Unresolved terms in descriptions: {0}",
+                        unresolved);
+            }
+            descriptions = r;
+        }
+        return descriptions;
+    }
+
+    /**
+     * @param ordinal The ordinal of a term.
+     * @return The parsed description of the term or null if it has none. The
+     * descriptions are parsed when one is first got.
+     */
+    public Description getDescription(int ordinal) {
+        return getDescriptions()[ordinal];
+    }
+
+    /**
+     * @return Text marked up with double quotes in descriptions that does not
+     * resolve to a term.
+     */
+    public synchronized TreeSet<String> getUnresolved() {
+        getDescriptions();
+        return new TreeSet<>(unresolved);
+    }
+
+    /**
+     * @return The number of terms.
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @param name A term name or an alias.
+     * @return The ordinal of the term for name or -1 if there is no such term.
+     */
+    public int getOrdinal(String name) {
+        Integer r = nameToOrdinal.get(name);
+        return r == null ? -1 : r;
+    }
+
+    /**
+     * @param ordinal The ordinal of a term.
+     * @return The term name.
+     */
+    public String getName(int ordinal) {
+        return names[ordinal];
+    }
+
+    /**
+     * @param ordinal The ordinal of a term.
+     * @return The term.
+     */
+    public Term getTerm(int ordinal) {
+        return terms[ordinal];
+    }
+
+    /**
+     * @return A hash of the term names, their URLs and descriptions and the
+     * names and aliases that resolve to each term. Links to terms are
+     * generated from these. If the terms are from a {@link DictionaryFile},
+     * then this is a hash of the version of the parent and of the file, so
+     * the descriptions are not got.
+     */
+    public synchronized String getVersion() {
+        if (version == null && file != null) {
+            version = RenderCache.getKey(List.of(parent == null ? ""
+                    : parent.getVersion(), file.getHash()));
+        }
+        if (version == null) {
+            List<String> parts = new ArrayList<>();
+            for (int i = 0; i < names.length; i++) {
+                parts.add(names[i]);
+                parts.add(terms[i].url);
+                parts.add(terms[i].getDescription());
+            }
+            for (var x : new TreeMap<>(nameToOrdinal).entrySet()) {
+                parts.add(x.getKey());
+                parts.add(x.getValue().toString());
+            }
+            version = RenderCache.getKey(parts);
+        }
+        return version;
+    }
+
+    /**
+     * @throws RuntimeException If the dictionary is immutable.
+     */
+    private void checkMutable() {
+        if (immutable) {
+            throw new RuntimeException("Dictionary is immutable!");
+        }
+    }
+
+    /**
+     * @param name The term name.
+     * @return The Term for name or null if there is no such term.
+     */
+    public Term getTerm(String name) {
+        return termToTerm.get(name);
+    }
+
+    /**
+     * @param alias The alias.
+     * @return The term name for alias or null if there is no such alias.
+     */
+    public String getTermName(String alias) {
+        return aliasToTerm.get(alias);
+    }
+
+    /**
+     * For checking and adding aliases.
+     *
+     * @param term The index term.
+     * @param alias The alias to add for the term.
+     * @param indexTerm The term.
+     */
+    public final void addAlias(String term, String alias, Term indexTerm) {
+        checkMutable();
+        if (aliasToTerm.containsKey(alias)) {
+            throw new RuntimeException("Alias " + alias + " already in use!");
+            /**
+             * Could add in logic to warn about/refer to other uses/ambiguity of
+             * a term/alias.
+             */
+        }
+        aliasToTerm.put(alias, term);
+    }
+
+    /**
+     * For checking and adding aliases.
+     *
+     * @param term The index term.
+     * @param alias The alias to add for the term.
+     * @param indexTerm The term.
+     */
+    public final void addAliasToIndex(String term, String alias,
+            Term indexTerm) {
+        addAlias(term, alias, indexTerm);
+        aliasesToIndex.add(alias);
+        termsAndAliasesToIndex.add(alias);
+    }
+
+    /**
+     * Adds to {@link #termToTerm} and {@link #termsAndAliasesToIndex}. If
+     * the term already exists and the description is different, then an
+     * RuntimeException is thrown.
+     *
+     * @param term The term to add.
+     * @param indexTerm The Term.
+     */
+    public final void addIndexTerm(String term, Term indexTerm) {
+        checkMutable();
+        if (termToTerm.containsKey(term)) {
+            Term iT = termToTerm.get(term);
+            if (!iT.getDescription().equalsIgnoreCase(
+                    indexTerm.getDescription())) {
+                throw new RuntimeException("Term " + term + " already defined"
+                        + " as " + iT.getDescription() + "!");
+            } else {
+                throw new RuntimeException("Term " + term + " already"
+                        + " defined!");
+            }
+        }
+        termToTerm.put(term, indexTerm);
+        termsAndAliasesToIndex.add(term);
+    }
+
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.course;
+
+import io.github.agdturner.io.Manifest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * A data file of the terms and aliases of a {@link Dictionary}. The file is
+ * UTF-8 encoded and each line is a record with fields separated by tabs:
+ * <ul>
+ * <li>{@code T <term> <url> <description>} A term. In the description, text
+ * marked up with double quotes is a term or alias to link to (see
+ * {@link Description}).</li>
+ * <li>{@code A <alias> <term>} An alias of a term or of another alias.</li>
+ * <li>{@code I <alias> <term>} An alias that is also in the index.</li>
+ * </ul>
+ * Empty lines and lines starting with {@code #} are ignored. Tabs, newlines
+ * and backslashes in fields are escaped with a backslash.
+ *
+ * The file is memory mapped if it can be and is validated in a single pass in
+ * which the terms, URLs and aliases are decoded, but descriptions are only
+ * located. A description is decoded when it is first got, which is when the
+ * index page is rendered.
+ *
+ * @author Andy Turner
+ */
+public class DictionaryFile {
+
+    /**
+     * A Term with a description that is decoded from a {@link DictionaryFile}
+     * when it is first got.
+     */
+    public static class FileTerm extends Term {
+
+        /**
+         * The file.
+         */
+        protected final DictionaryFile file;
+
+        /**
+         * The position of the description in the file.
+         */
+        protected final int position;
+
+        /**
+         * The end position of the description in the file.
+         */
+        protected final int end;
+
+        /**
+         * The description once decoded.
+         */
+        private String text;
+
+        /**
+         * Create a new instance.
+         *
+         * @param file What {@link #file} is set to.
+         * @param url What {@link #url} is set to.
+         * @param position What {@link #position} is set to.
+         * @param end What {@link #end} is set to.
+         */
+        public FileTerm(DictionaryFile file, String url, int position,
+                int end) {
+            super(null, url);
+            this.file = file;
+            this.position = position;
+            this.end = end;
+        }
+
+        @Override
+        public synchronized String getDescription() {
+            if (text == null) {
+                text = file.decode(position, end);
+            }
+            return text;
+        }
+    }
+
+    /**
+     * The name of the file for messages.
+     */
+    public final String name;
+
+    /**
+     * The content of the file.
+     */
+    protected final ByteBuffer buffer;
+
+    /**
+     * The term names in the order they are in the file.
+     */
+    protected final List<String> terms;
+
+    /**
+     * The terms in {@link #terms} order.
+     */
+    protected final List<FileTerm> fileTerms;
+
+    /**
+     * The aliases in the order they are in the file. Each is a String array
+     * of the alias and the term or alias it is for.
+     */
+    protected final List<String[]> aliases;
+
+    /**
+     * The aliases that are also in the index.
+     */
+    protected final HashSet<String> aliasesToIndex;
+
+    /**
+     * A hash of the content of the file. Set when first got.
+     */
+    private String hash;
+
+    /**
+     * Create a new instance and validate buffer.
+     *
+     * @param name What {@link #name} is set to.
+     * @param buffer What {@link #buffer} is set to.
+     * @throws RuntimeException If buffer is not valid.
+     */
+    public DictionaryFile(String name, ByteBuffer buffer) {
+        this.name = name;
+        this.buffer = buffer;
+        terms = new ArrayList<>();
+        fileTerms = new ArrayList<>();
+        aliases = new ArrayList<>();
+        aliasesToIndex = new HashSet<>();
+        HashSet<String> names = new HashSet<>();
+        int n = buffer.limit();
+        int line = 0;
+        int i = 0;
+        while (i < n) {
+            line++;
+            int e = indexOf((byte) '\n', i, n);
+            int next = e + 1;
+            if (e > i && buffer.get(e - 1) == '\r') {
+                e--;
+            }
+            if (e > i && buffer.get(i) != '#') {
+                int t1 = indexOf((byte) '\t', i, e);
+                int t2 = indexOf((byte) '\t', t1 + 1, e);
+                if (t1 != i + 1) {
+                    throw error(line, "the record type is not one character");
+                }
+                if (t2 == e) {
+                    throw error(line, "too few fields");
+                }
+                int t3 = indexOf((byte) '\t', t2 + 1, e);
+                byte kind = buffer.get(i);
+                if (kind == 'T') {
+                    if (t3 == e || indexOf((byte) '\t', t3 + 1, e) != e) {
+                        throw error(line, "a term has 4 fields");
+                    }
+                    String term = decode(t1 + 1, t2);
+                    if (!names.add(term)) {
+                        throw error(line, "duplicate " + term);
+                    }
+                    terms.add(term);
+                    fileTerms.add(new FileTerm(this, decode(t2 + 1, t3),
+                            t3 + 1, e));
+                } else if (kind == 'A' || kind == 'I') {
+                    if (t3 != e) {
+                        throw error(line, "an alias has 3 fields");
+                    }
+                    String alias = decode(t1 + 1, t2);
+                    if (!names.add(alias)) {
+                        throw error(line, "duplicate " + alias);
+                    }
+                    aliases.add(new String[]{alias, decode(t2 + 1, e)});
+                    if (kind == 'I') {
+                        aliasesToIndex.add(alias);
+                    }
+                } else {
+                    throw error(line, "unknown record type " + (char) kind);
+                }
+            }
+            i = next;
+        }
+    }
+
+    /**
+     * Gets a DictionaryFile for a resource. The resource is memory mapped if
+     * it is a file, otherwise it is read.
+     *
+     * @param c The class the resource name is relative to.
+     * @param resource The name of the resource.
+     * @return A DictionaryFile for the resource.
+     */
+    public static DictionaryFile load(Class<?> c, String resource) {
+        URL url = c.getResource(resource);
+        if (url == null) {
+            throw new RuntimeException("Dictionary file " + resource
+                    + " not found!");
+        }
+        try {
+            ByteBuffer b;
+            if (url.getProtocol().equals("file")) {
+                try (FileChannel fc = FileChannel.open(Paths.get(url.toURI()))) {
+                    b = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
+                }
+            } else {
+                try (InputStream is = url.openStream()) {
+                    b = ByteBuffer.wrap(is.readAllBytes());
+                }
+            }
+            return new DictionaryFile(url.toString(), b);
+        } catch (IOException | URISyntaxException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Adds the terms and aliases to d and checks that each alias is for a
+     * term or an alias in d.
+     *
+     * @param d The dictionary to add to.
+     */
+    public void addTo(Dictionary d) {
+        for (int i = 0; i < terms.size(); i++) {
+            d.addIndexTerm(terms.get(i), fileTerms.get(i));
+        }
+        for (String[] a : aliases) {
+            if (aliasesToIndex.contains(a[0])) {
+                d.addAliasToIndex(a[1], a[0], d.getTerm(a[1]));
+            } else {
+                d.addAlias(a[1], a[0], d.getTerm(a[1]));
+            }
+        }
+        for (String[] a : aliases) {
+            if (d.getTerm(a[1]) == null && d.getTermName(a[1]) == null) {
+                throw new RuntimeException("In " + name + " alias " + a[0]
+                        + " is for " + a[1] + " which is not a term or alias!");
+            }
+        }
+    }
+
+    /**
+     * @return A hash of the content of the file.
+     */
+    public synchronized String getHash() {
+        if (hash == null) {
+            MessageDigest md = Manifest.getDigest();
+            md.update(buffer.duplicate().clear());
+            hash = Manifest.toHex(md.digest());
+        }
+        return hash;
+    }
+
+    /**
+     * @param b The byte to find.
+     * @param from The position to search from.
+     * @param to The position to search to.
+     * @return The position of b in {@link #buffer} from from or to if it is
+     * not found before to.
+     */
+    protected final int indexOf(byte b, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == b) {
+                return i;
+            }
+        }
+        return to;
+    }
+
+    /**
+     * @param from The start position.
+     * @param to The end position.
+     * @return The field from from to to in {@link #buffer} decoded and
+     * unescaped.
+     */
+    protected final String decode(int from, int to) {
+        byte[] bytes = new byte[to - from];
+        buffer.get(from, bytes);
+        String s = new String(bytes, StandardCharsets.UTF_8);
+        if (s.indexOf('\\') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char x = s.charAt(++i);
+                sb.append(x == 't' ? '\t' : x == 'n' ? '\n' : x);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param line The line number.
+     * @param message The message.
+     * @return An exception for an invalid line.
+     */
+    private RuntimeException error(int line, String message) {
+        return new RuntimeException(name + ":" + line + ": " + message);
+    }
+}
@@ -19,11 +19,21 @@ import io.github.agdturner.core.SectionID;
 import java.util.TreeSet;
 
 /**
- * IndexTerm.
+ * IndexTerm. This records where in a course a {@link Term} is used.
  *
  * @author Andy Turner
  */
-public class IndexTerm extends Term {
+public class IndexTerm {
+
+    /**
+     * The index.
+     */
+    public final Index index;
+
+    /**
+     * The term.
+     */
+    public final Term term;
 
     /**
      * The SectionIDs where this term is used.
@@ -34,26 +44,23 @@ public class IndexTerm extends Term {
      * Create a new instance.
      *
      * @param index What {@link #index} is set to.
-     * @param description What {@link #description} is set to.
-     * @param url What {@link #url} is set to.
+     * @param term What {@link #term} is set to.
      */
-    public IndexTerm(Index index, String description, String url) {
-        this(index, description, url, null);
+    public IndexTerm(Index index, Term term) {
+        this.index = index;
+        this.term = term;
+        this.sectionIDs = new TreeSet<>();
     }
-    
+
     /**
-     * Create a new instance.
+     * Adds sid to {@link #sectionIDs}. Pages may be rendered concurrently, so
+     * this synchronizes on {@link #sectionIDs}.
      *
-     * @param index What {@link #index} is set to.
-     * @param description What {@link #description} is set to.
-     * @param url What {@link #url} is set to.
      * @param sid A SectionID where the term is used.
      */
-    public IndexTerm(Index index, String description, String url, SectionID sid) {
-        super(index, description, url);
-        this.sectionIDs = new TreeSet<>();
-        if (sid != null) {
-            this.sectionIDs.add(sid);
+    public void addSectionID(SectionID sid) {
+        synchronized (sectionIDs) {
+            sectionIDs.add(sid);
         }
     }
 }
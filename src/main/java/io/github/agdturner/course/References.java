@@ -39,7 +39,7 @@ public class References extends CoursePage {
      * @param label What {@link #label} is set to.
      */
     public References(Course course, String filename, String title, String label) {
-        super(course, filename, title, label);
+        super(course, filename, title, label, Course.REFERENCES_PAGE_ID);
         termToTerm = new TreeMap<>();
 
         String name;
@@ -51,7 +51,7 @@ public class References extends CoursePage {
         description = """
                       A platform to build, scale, and deliver secure "software".
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         
         name = "CPP0";
@@ -59,42 +59,42 @@ public class References extends CoursePage {
         description = """
                       CPP0: C++ for HPC Level 0.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         name = "CPP1";
         url = "https://agdturner.github.io/CPP1/public_html/home/index.html";
         description = """
                       CPP1: C++ for HPC Level 0.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         name = "Python0";
         url = "https://agdturner.github.io/Python0/public_html/home/index.html";
         description = """
                       Python0: Python for HPC Level 0.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         name = "Python1";
         url = "https://agdturner.github.io/Python1/public_html/home/index.html";
         description = """
                       Python1: Python for HPC Level 1.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         name = "Java0";
         url = "https://agdturner.github.io/Java0/public_html/home/index.html";
         description = """
                       Java0: Java for HPC Level 0.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
         name = "Java1";
         url = "https://agdturner.github.io/Java1/public_html/home/index.html";
         description = """
                       Java1: Java for HPC Level 1.
                       """;
-        termToTerm.put(name, new Term(index, description, url));
+        termToTerm.put(name, new Term(description, url));
         
     }
 
@@ -119,9 +119,11 @@ public class References extends CoursePage {
      */
     public String addWebReference(Course course, String name, String linkText,
             String url, String description) {
-        if (!references.termToTerm.containsKey(name)) {
-            references.termToTerm.put(name,
-                    new Term(index, description, url));
+        synchronized (references.termToTerm) {
+            if (!references.termToTerm.containsKey(name)) {
+                references.termToTerm.put(name,
+                        new Term(description, url));
+            }
         }
         return Web_ContentWriter.getLink(url, linkText);
     }
@@ -149,6 +151,14 @@ public class References extends CoursePage {
 //        return termToTerm.get(name).getLink(linkText);
     }
 
+    /**
+     * @return false as web references may be added by any page.
+     */
+    @Override
+    protected boolean isCacheable() {
+        return false;
+    }
+
     @Override
     public String getMainContent() {
         StringBuilder sb = new StringBuilder();
@@ -156,7 +166,7 @@ public class References extends CoursePage {
         for (String name : termToTerm.keySet()) {
             Term term = termToTerm.get(name);
             sb.append("<li>");
-            sb.append(term.getLinkAndDescription(name));
+            sb.append(term.getLinkAndDescription(index, name));
             sb.append(".");            
             sb.append("</li>\n");
         }
@@ -26,14 +26,11 @@ import uk.ac.leeds.ccg.web.io.Web_ContentWriter;
 public class Term {
 
     /**
-     * The index for looking up terms.
+     * The description of the resource. This is null if there is no
+     * description or if it is got in another way (see
+     * {@link #getDescription()}).
      */
-    protected Index index;
-    
-    /**
-     * The description of the resource.
-     */
-    public final String description;
+    protected final String description;
 
     /**
      * The URL lookup for the term.
@@ -43,16 +40,21 @@ public class Term {
     /**
      * Create a new instance.
      *
-     * @param index What {@link #index} is set to.
      * @param description What {@link #description} is set to.
      * @param url What {@link #url} is set to.
      */
-    public Term(Index index, String description, String url) {
-        this.index = index;
+    public Term(String description, String url) {
         this.description = description;
         this.url = url;
     }
     
+    /**
+     * @return The description of the resource or null if there is none.
+     */
+    public String getDescription() {
+        return description;
+    }
+
     /**
      * Uses {@link #url} and linkText for a link.
      * @param linkText
@@ -73,11 +75,13 @@ public class Term {
     
     /**
      * Uses linkName for an internal link using linkText.
+     * @param index The index linked to.
      * @param linkName The id or target of the link.
      * @param linkText The text displayed.
      * @return A HTML link.
      */
-    public String getLinkWithin(String linkName, String linkText) {
+    public String getLinkWithin(Index index, String linkName,
+            String linkText) {
         return Web_ContentWriter.getLink(index.path + "/index.html#" + linkName, linkText);
     }
     
@@ -86,36 +90,33 @@ public class Term {
      * attempt is made to additionally insert a link for that text. This also 
      * looks to use any alias set up for these terms.
      * 
+     * @param index The index for looking up terms.
      * @param linkText
      * @return A link and description.
      */
-    public String getLinkAndDescription(String linkText) {
-        String r = getLink(linkText);
-        if (description != null) {
-            r += " - ";
-            if (description.contains("\"")) {
-                String[] split = description.split("\"");
-                for (int i = 0; i < split.length; i ++) {
-                    if (i % 2 == 0) {
-                        r+= split[i];
-                    } else {
-                        String l = index.getReference(split[i]);
-                        if (l == null) {
-                            String la = index.aliasToTerm.get(split[i]);
-                            if (la == null) {
-                                r+= "\"" + split[i] + "\"";                                
-                            } else {
-                                r+= index.getReference(la, split[i]);
-                            }
-                        } else {
-                            r+= l;
-                        }    
-                    }
-                }
-            } else {
-                r+= description;
-            }
+    public String getLinkAndDescription(Index index, String linkText) {
+        StringBuilder sb = new StringBuilder();
+        String d = getDescription();
+        appendLinkAndDescription(sb, index, linkText, d == null ? null
+                : new Description(index.dictionary, d, null));
+        return sb.toString();
+    }
+
+    /**
+     * Appends a link and the description to sb.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param index The index links in the description are to.
+     * @param linkText The text for the link.
+     * @param d The parsed {@link #getDescription()}. This is null if there is
+     * no description.
+     */
+    public void appendLinkAndDescription(StringBuilder sb, Index index,
+            String linkText, Description d) {
+        sb.append(getLink(linkText));
+        if (d != null) {
+            sb.append(" - ");
+            d.append(sb, index);
         }
-        return r;
     }
 }
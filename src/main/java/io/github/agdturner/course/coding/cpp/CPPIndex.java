@@ -15,10 +15,10 @@
  */
 package io.github.agdturner.course.coding.cpp;
 
-import io.github.agdturner.core.Environment;
 import io.github.agdturner.course.Course;
+import io.github.agdturner.course.Dictionary;
+import io.github.agdturner.course.DictionaryFile;
 import io.github.agdturner.course.Index;
-import io.github.agdturner.course.IndexTerm;
 
 /**
  * Python Index Course Page.
@@ -26,6 +26,13 @@ import io.github.agdturner.course.IndexTerm;
  * @author Andy Turner
  */
 public class CPPIndex extends Index {
+
+    /**
+     * The dictionary of general and C++ terms shared by all C++ courses.
+     */
+    public static final Dictionary DICTIONARY = new Dictionary(
+            Index.DICTIONARY,
+            DictionaryFile.load(CPPIndex.class, "terms.txt"));
     
     /**
      * Create a new instance.
@@ -36,147 +43,7 @@ public class CPPIndex extends Index {
      * @param label What {@link #label} is set to.
      */
     public CPPIndex(Course course, String filename, String title, String label) {
-        super(course, filename, title, label);
-        String term;
-        String url;
-        String description;
-        IndexTerm indexTerm;
-        
-        term = "Boost.Test";
-        url = "https://www.boost.org/doc/libs/1_84_0/libs/test/doc/html/index.html";
-        description = """
-                      A "software library" that provides interfaces for \
-                      writing test programs, organizing tests into simple test \
-                      cases and test suites, and controlling their runtime \
-                      execution.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
-        
-        term = "Catch2";
-        url = "https://github.com/catchorg/Catch2";
-        description = """
-                      A unit testing framework for "C++".\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
-        
-        term = "C++ Array";
-        url = getCPPReferenceLanguageURL("array");
-        description = """
-                      A construct for storing multiple values of the same type \
-                      in a single variable.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        
-        term = "C++ Class";
-        url = getCPPReferenceLanguageURL("class");
-        description = """
-                      A user-defined type, defined by class-specifier, which \
-                      appears in decl-specifier-seq of the declaration syntax.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
-        addAlias(term, "C++ class", indexTerm);
-        addAlias(term, "C++ Classes", indexTerm);
-        addAlias(term, "C++ classes", indexTerm);
-        
-        term = "C++ Map";
-        url = getCPPReferenceContainerURL("map");
-        description = """
-                      A sorted associative container that contains key-value \
-                      pairs with unique keys. Keys are sorted.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ map", indexTerm);
-
-        term = "C++ Module";
-        url = getCPPReferenceLanguageURL("modules");
-        description = """
-                      A language feature since "C++20" to share declarations \
-                      and definitions across translation units.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ module", indexTerm);
-                
-        term = "C++ Namespace";
-        url = getCPPReferenceLanguageURL("namespace");
-        description = """
-                      A way to prevent name conflicts in large projects. \
-                      Entities declared inside a namespace block are placed in \
-                      a namespace scope, which prevents them from being \
-                      mistaken for identically-named entities in other \
-                      scopes.\
-                      
-                      Entities declared outside all namespace blocks belong to \
-                      the global namespace. The global namespace belongs to \
-                      the global scope, and can be referred to explicitly with \
-                      a leading ::. While it has no declaration, the global \
-                      namespace is not an unnamed namespace.\
-                      
-                      Multiple namespace blocks with the same name are \
-                      allowed. All declarations within these blocks are \
-                      declared in the same namespace scope.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ namespace", indexTerm);
-                
-        term = "C++ Reference";
-        url = getCPPReferenceLanguageURL("reference");
-        description = "An alias to an already-existing object or function";
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ reference", indexTerm);
-        
-        term = "C++ Set";
-        url = getCPPReferenceContainerURL("set");
-        description = """
-                      An associative container that contains a sorted set of \
-                      unique objects of type Key.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ set", indexTerm);
-
-        term = "C++ Standard Library";
-        url = Environment.getWikipediaURL("C%2B%2B_Standard_Library");
-        description = """
-                      A collection of classes and functions in the core "C++" \
-                      "ISO"/"IEC" 14882 standard.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
-        
-        term = "C++ Vector";
-        url = getCPPReferenceContainerURL("vector");
-        description = """
-                      A sequence container that encapsulates dynamic size \
-                      "arrays".\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTermAndAliasTermPlural(term, indexTerm);
-        addAliasAndAliasPlural(term, "C++ vector", indexTerm);
-
-        term = "GoogleTest";
-        url = "https://google.github.io/googletest/";
-        description = """
-                      Google’s "C++" testing and mocking framework.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
-        
-        term = "VCPKG";
-        url = "https://vcpkg.io/";
-        description = """
-                      "C"/"C++" dependency manager for all platforms, \
-                      build systems, and workflows.\
-                      """;
-        indexTerm = new IndexTerm(this, description, url);
-        addIndexTerm(term, indexTerm);
+        super(course, filename, title, label, DICTIONARY);
     }
 
     /**
@@ -49,7 +49,7 @@ public class CPPReferences extends References {
                 A collection of classes and functions, which are in the core \
                 ISO/IEC 14882 C++ standard.
                 """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
         term = "cppreference.com";
         url = "https://en.cppreference.com/";
@@ -57,7 +57,7 @@ public class CPPReferences extends References {
                 """
                 A community generated online reference for "C" and "C++".
                 """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
         term = "Matplot++";
         url = "https://alandefreitas.github.io/matplotplusplus/";
@@ -65,7 +65,7 @@ public class CPPReferences extends References {
                 """
                 A "C++" graphics library for data visualization.
                 """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
         term = "The GNU Compiler Collection";
         url = "https://gcc.gnu.org/";
@@ -74,7 +74,7 @@ public class CPPReferences extends References {
                 Includes front ends for "C", "C++", Objective-C, "Fortran", \
                 Ada, Go, and D, as well as libraries for these languages.
                 """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
         term = "cppreference.com links libs";
         url = "https://en.cppreference.com/w/cpp/links/libs";
@@ -82,7 +82,7 @@ public class CPPReferences extends References {
                 """
                 A list of "open-source" "C++" libraries.
                 """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
     }
 }
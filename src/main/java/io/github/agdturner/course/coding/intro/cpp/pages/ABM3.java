@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.cpp.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.cpp.CPPIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -30,9 +31,10 @@ public class ABM3 extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public ABM3(CPPIntroCodingCourse course) {
-        super(course, "abm3", "Agent Based Model Practical 3", "ABM3");
+    public ABM3(CPPIntroCodingCourse course, PageID pageID) {
+        super(course, "Agent Based Model Practical 3", pageID);
     }
 
     @Override
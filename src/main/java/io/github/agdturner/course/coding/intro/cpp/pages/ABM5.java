@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.cpp.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.cpp.CPPIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -32,8 +33,8 @@ public class ABM5 extends CoursePage {
      * @param course What {@link #site} is set to.
      *
      */
-    public ABM5(CPPIntroCodingCourse course) {
-        super(course, "abm5", "Agent Based Model Practical 5", "ABM5");
+    public ABM5(CPPIntroCodingCourse course, PageID pageID) {
+        super(course, "Agent Based Model Practical 5", pageID);
     }
 
     @Override
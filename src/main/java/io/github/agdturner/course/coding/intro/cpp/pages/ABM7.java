@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.cpp.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.cpp.CPPIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -30,9 +31,10 @@ public class ABM7 extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public ABM7(CPPIntroCodingCourse course) {
-        super(course, "abm7", "Agent Based Model Practical 7", "ABM7");
+    public ABM7(CPPIntroCodingCourse course, PageID pageID) {
+        super(course, "Agent Based Model Practical 7", pageID);
     }
     
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.cpp.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.coding.intro.cpp.CPPIntroCodingCourse;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.CoursePage;
@@ -31,9 +32,10 @@ public class CPP extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public CPP(CPPIntroCodingCourse course) {
-        super(course, "cpp", "CPP", "CPP");
+    public CPP(CPPIntroCodingCourse course, PageID pageID) {
+        super(course, "CPP", pageID);
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.cpp.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.cpp.CPPIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -32,8 +33,8 @@ public class Loops extends CoursePage {
      * @param course What {@link #site} is set to.
      *
      */
-    public Loops(CPPIntroCodingCourse course) {
-        super(course, "loops", "Loops", "Loops");
+    public Loops(CPPIntroCodingCourse course, PageID pageID) {
+        super(course, "Loops", pageID);
     }
     
     @Override
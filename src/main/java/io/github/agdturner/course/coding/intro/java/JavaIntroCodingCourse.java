@@ -45,8 +45,9 @@ public abstract class JavaIntroCodingCourse extends JavaCodingCourse {
         // Home
         homePage = new JavaIntroCodingCourseHome(this);
         // Course Pages
-        pages.add(new JavaIntroCodingCourseProgramming(this));
-        pages.add(new Java(this));
+        addPage("programming", "Programming",
+                id -> new JavaIntroCodingCourseProgramming(this, id));
+        addPage("java", "Java", id -> new Java(this, id));
 /*        coursePages.add(new Variables(this));
         coursePages.add(new Github(this));
         coursePages.add(new ABM1(this));
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.java.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.coding.intro.java.JavaIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
 
@@ -29,9 +30,10 @@ public class Java extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public Java(JavaIntroCodingCourse course) {
-        super(course, "java", "Java", "Java");
+    public Java(JavaIntroCodingCourse course, PageID pageID) {
+        super(course, "Java", pageID);
     }
     
     @Override
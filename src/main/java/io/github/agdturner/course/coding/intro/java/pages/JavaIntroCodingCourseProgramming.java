@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.java.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.Course;
 import io.github.agdturner.course.coding.intro.pages.IntroCodingCourseProgramming;
 
@@ -25,8 +26,8 @@ import io.github.agdturner.course.coding.intro.pages.IntroCodingCourseProgrammin
  */
 public class JavaIntroCodingCourseProgramming extends IntroCodingCourseProgramming {
     
-    public JavaIntroCodingCourseProgramming(Course course) {
-        super(course);
+    public JavaIntroCodingCourseProgramming(Course course, PageID pageID) {
+        super(course, pageID);
     }
     
 }
@@ -42,22 +42,29 @@ public class Java0 extends JavaIntroCodingCourse {
     }
 
     /**
-     * Main method
-     *
-     * @param args
+     * @param dir The directory in which the website directory is.
+     * @return A new instance configured for writing to dir.
      */
-    public static void main(String[] args) {
+    public static Java0 create(Path dir) {
         String courseCode = "Java0";
         String courseName = "Java for HPC Level 0";
-        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
-        //Path local = Paths.get("courses", "computing");
         String domain = Environment.AGDTURNER_GITHUB_IO;
-        Path local = Paths.get(dir.toString(), domain, courseCode, "public_html");
         Environment env = new Environment(domain, dir);
         // Set localPaths to false when deploying.
         boolean localPaths = false;
-        Java0 course = new Java0(env, "Java0", courseName, localPaths);
-        course.write(dir);
+        return new Java0(env, courseCode, courseName, localPaths);
+    }
+
+    /**
+     * Main method
+     *
+     * @param args
+     */
+    public static void main(String[] args) {
+        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
+        String domain = Environment.AGDTURNER_GITHUB_IO;
+        Path local = Paths.get(dir.toString(), domain, "Java0", "public_html");
+        create(dir).write(local);
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.Course;
 import io.github.agdturner.course.coding.pages.CodingCourseProgramming;
@@ -26,8 +27,8 @@ import io.github.agdturner.course.coding.pages.CodingCourseProgramming;
  */
 public class IntroCodingCourseProgramming extends CodingCourseProgramming {
     
-    public IntroCodingCourseProgramming(Course course) {
-        super(course);
+    public IntroCodingCourseProgramming(Course course, PageID pageID) {
+        super(course, pageID);
     }
     
     @Override
@@ -61,30 +61,33 @@ public abstract class PythonIntroCodingCourse extends PythonCodingCourse {
         // Home
         homePage = new PythonIntroCodingCourseHome(this);
         // Course Pages
-        pages.add(new PythonIntroCodingCourseProgramming(this));
-        pages.add(new Python(this));
-        pages.add(new Variables(this));
-        pages.add(new Github(this));
-        pages.add(new ABM1(this));
-        pages.add(new Containers(this));
-        pages.add(new Branching(this));
-        pages.add(new Loops(this));
-        pages.add(new ABM2(this));
-        pages.add(new Functions(this));
-        pages.add(new ABM3(this));
-        pages.add(new Classes(this));
-        pages.add(new ABM4(this));
-        pages.add(new IO(this));
-        pages.add(new ABM5(this));
-        pages.add(new Modules(this));
-        pages.add(new ABM6(this));
-        pages.add(new Exceptions(this));
-        pages.add(new SoGPythonIntroCodingCourseABM7(this));
-        pages.add(new GUI(this));
-        pages.add(new ABM8(this));
-        pages.add(new Web(this));
-        pages.add(new SoGPythonIntroCodingCourseABM9(this));
-        pages.add(new Testing(this));
+        addPage("programming", "Programming",
+                id -> new PythonIntroCodingCourseProgramming(this, id));
+        addPage("python", "Python", id -> new Python(this, id));
+        addPage("variables", "Variables", id -> new Variables(this, id));
+        addPage("github", "GitHub", id -> new Github(this, id));
+        addPage("abm1", "ABM1", id -> new ABM1(this, id));
+        addPage("containers", "Containers", id -> new Containers(this, id));
+        addPage("branching", "Branching", id -> new Branching(this, id));
+        addPage("loops", "Loops", id -> new Loops(this, id));
+        addPage("abm2", "ABM2", id -> new ABM2(this, id));
+        addPage("functions", "Functions", id -> new Functions(this, id));
+        addPage("abm3", "ABM3", id -> new ABM3(this, id));
+        addPage("classes", "Classes", id -> new Classes(this, id));
+        addPage("abm4", "ABM4", id -> new ABM4(this, id));
+        addPage("io", "IO", id -> new IO(this, id));
+        addPage("abm5", "ABM5", id -> new ABM5(this, id));
+        addPage("modules", "Modules", id -> new Modules(this, id));
+        addPage("abm6", "ABM6", id -> new ABM6(this, id));
+        addPage("exceptions", "Exceptions", id -> new Exceptions(this, id));
+        addPage("abm7", "ABM7",
+                id -> new SoGPythonIntroCodingCourseABM7(this, id));
+        addPage("gui", "GUI", id -> new GUI(this, id));
+        addPage("abm8", "ABM8", id -> new ABM8(this, id));
+        addPage("web", "Web", id -> new Web(this, id));
+        addPage("abm9", "ABM9",
+                id -> new SoGPythonIntroCodingCourseABM9(this, id));
+        addPage("testing", "Testing", id -> new Testing(this, id));
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -30,9 +31,10 @@ public class ABM1 extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public ABM1(PythonIntroCodingCourse course) {
-        super(course, "abm1", "Agent Based Model Practical 1", "ABM1");
+    public ABM1(PythonIntroCodingCourse course, PageID pageID) {
+        super(course, "Agent Based Model Practical 1", pageID);
     }
 
     @Override
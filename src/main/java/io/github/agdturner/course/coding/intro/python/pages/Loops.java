@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -32,8 +33,8 @@ public class Loops extends CoursePage {
      * @param course What {@link #site} is set to.
      *
      */
-    public Loops(PythonIntroCodingCourse course) {
-        super(course, "loops", "Loops", "Loops");
+    public Loops(PythonIntroCodingCourse course, PageID pageID) {
+        super(course, "Loops", pageID);
     }
     
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.CoursePage;
@@ -31,9 +32,10 @@ public class Python extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public Python(PythonIntroCodingCourse course) {
-        super(course, "python", "Python", "Python");
+    public Python(PythonIntroCodingCourse course, PageID pageID) {
+        super(course, "Python", pageID);
     }
 
     @Override
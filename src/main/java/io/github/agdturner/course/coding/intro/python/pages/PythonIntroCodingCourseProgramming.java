@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.Course;
 import io.github.agdturner.course.coding.intro.pages.IntroCodingCourseProgramming;
 
@@ -25,7 +26,7 @@ import io.github.agdturner.course.coding.intro.pages.IntroCodingCourseProgrammin
  */
 public class PythonIntroCodingCourseProgramming extends IntroCodingCourseProgramming {
 
-    public PythonIntroCodingCourseProgramming(Course course) {
-        super(course);
+    public PythonIntroCodingCourseProgramming(Course course, PageID pageID) {
+        super(course, pageID);
     }
 }
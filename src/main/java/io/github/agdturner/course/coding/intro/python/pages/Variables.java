@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.course.CoursePage;
@@ -30,9 +31,10 @@ public class Variables extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public Variables(PythonIntroCodingCourse course) {
-        super(course, "variables", "Variables", "Variables");
+    public Variables(PythonIntroCodingCourse course, PageID pageID) {
+        super(course, "Variables", pageID);
     }
     
     @Override
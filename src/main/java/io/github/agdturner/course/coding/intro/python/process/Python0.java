@@ -33,21 +33,28 @@ public class Python0 extends PythonIntroCodingCourse {
     }
 
     /**
-     * Main method
-     *
-     * @param args
+     * @param dir The directory in which the website directory is.
+     * @return A new instance configured for writing to dir.
      */
-    public static void main(String[] args) {
+    public static Python0 create(Path dir) {
         String courseCode = "Python0";
         String courseName = "Python for HPC Level 0";
-        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
-        //Path local = Paths.get("courses", "computing");
         String domain = Environment.AGDTURNER_GITHUB_IO;
-        Path local = Paths.get(dir.toString(), domain, courseCode, "public_html");
         Environment env = new Environment(domain, dir);
         // Set localPaths to false when deploying.
         boolean localPaths = false;
-        Python0 course = new Python0(env, courseCode, courseName, localPaths);
-        course.write(local);
+        return new Python0(env, courseCode, courseName, localPaths);
+    }
+
+    /**
+     * Main method
+     *
+     * @param args
+     */
+    public static void main(String[] args) {
+        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
+        String domain = Environment.AGDTURNER_GITHUB_IO;
+        Path local = Paths.get(dir.toString(), domain, "Python0", "public_html");
+        create(dir).write(local);
     }
 }
@@ -16,9 +16,11 @@
 package io.github.agdturner.course.coding.intro.python.sog;
 
 import io.github.agdturner.core.Environment;
+import io.github.agdturner.core.SharedRender;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.course.coding.intro.python.sog.pages.SoGPythonIntroCodingCourseHome;
 import io.github.agdturner.course.sog.SoGCourseDetails;
+import java.util.List;
 
 /**
  * Java for generating a SoG Course Website.
@@ -27,15 +29,40 @@ import io.github.agdturner.course.sog.SoGCourseDetails;
  */
 public abstract class SoGPythonIntroCodingCourse extends PythonIntroCodingCourse {
 
+    /**
+     * A template for the SoG Python Intro Coding Courses, which are variants
+     * of each other (see {@link #getVariantTemplate()}).
+     */
+    public static class Template extends SoGPythonIntroCodingCourse {
+
+        /**
+         * Create a new instance.
+         *
+         * @param env What {@link #env} is set to.
+         * @param localPaths What {@link #localPaths} is set to.
+         */
+        public Template(Environment env, boolean localPaths) {
+            super(env, SharedRender.getToken("courseCode"),
+                    SharedRender.getToken("courseName"), localPaths,
+                    SharedRender.getToken("academicYear"),
+                    SharedRender.getToken("assignment1Name"),
+                    SharedRender.getToken("assignment1DueDate"),
+                    SharedRender.getToken("assignment1Weighting"),
+                    SharedRender.getToken("assignment2Name"),
+                    SharedRender.getToken("assignment2DueDate"),
+                    SharedRender.getToken("assignment2Weighting"));
+        }
+    }
+
     /**
      * Course details.
      */
     public SoGCourseDetails courseDetails;
     
     /**
-     * The weighting given to Assignment 1.
+     * The weighting given to Assignment 1 as a percentage.
      */
-    public int assignment1Weighting;
+    public String assignment1Weighting;
 
     /**
      * The name for Assignment 1.
@@ -48,9 +75,9 @@ public abstract class SoGPythonIntroCodingCourse extends PythonIntroCodingCourse
     public String assignment1DueDate;
     
     /**
-     * The weighting given to Assignment 2.
+     * The weighting given to Assignment 2 as a percentage.
      */
-    public int assignment2Weighting;
+    public String assignment2Weighting;
 
     /**
      * The name for Assignment 2.
@@ -82,6 +109,33 @@ public abstract class SoGPythonIntroCodingCourse extends PythonIntroCodingCourse
             String assignment1Name, String assignment1DueDate, 
             int assignment1Weighting, String assignment2Name, 
             String assignment2DueDate, int assignment2Weighting) {
+        this(env, courseCode, courseName, localPaths, academicYear,
+                assignment1Name, assignment1DueDate,
+                Integer.toString(assignment1Weighting), assignment2Name,
+                assignment2DueDate, Integer.toString(assignment2Weighting));
+    }
+
+    /**
+     * Creates a new instance. The weightings are Strings, so that a
+     * {@link Template} can give tokens for them.
+     *
+     * @param env What {@link #env} is set to.
+     * @param courseCode What {@link #courseCode} is set to.
+     * @param courseName What {@link #courseName} is set to.
+     * @param localPaths  What {@link #localPaths} is set to.
+     * @param academicYear What {@link #academicYear} is set to.
+     * @param assignment1Name What {@link #assignment1Name} is set to.
+     * @param assignment1DueDate What {@link #assignment1DueDate} is set to.
+     * @param assignment1Weighting What {@link #assignment1Weighting} is set to.
+     * @param assignment2Name What {@link #assignment2Name} is set to.
+     * @param assignment2DueDate What {@link #assignment2DueDate} is set to.
+     * @param assignment2Weighting What {@link #assignment2Weighting} is set to.
+     */
+    public SoGPythonIntroCodingCourse(Environment env, String courseCode, 
+            String courseName, boolean localPaths, String academicYear,
+            String assignment1Name, String assignment1DueDate, 
+            String assignment1Weighting, String assignment2Name, 
+            String assignment2DueDate, String assignment2Weighting) {
         super(env, courseCode, courseName, localPaths);
         homePage = new SoGPythonIntroCodingCourseHome(this);
         this.courseDetails = new SoGCourseDetails(this, academicYear);
@@ -97,5 +151,31 @@ public abstract class SoGPythonIntroCodingCourse extends PythonIntroCodingCourse
     public String getCourseCode() {
         return "GEOG" + super.getCourseCode();
     }
+
+    /**
+     * @return A {@link Template} with the same {@link #env} and
+     * {@link #localPaths} as this.
+     */
+    @Override
+    public Template getVariantTemplate() {
+        return new Template(env, localPaths);
+    }
+
+    /**
+     * @return The parameters of the course followed by the academic year and
+     * the name, due date and weighting of each assignment.
+     */
+    @Override
+    public List<String> getVariantParameters() {
+        List<String> r = super.getVariantParameters();
+        r.add(courseDetails.academicYear);
+        r.add(assignment1Name);
+        r.add(assignment1DueDate);
+        r.add(assignment1Weighting);
+        r.add(assignment2Name);
+        r.add(assignment2DueDate);
+        r.add(assignment2Weighting);
+        return r;
+    }
     
 }
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.sog.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.coding.intro.python.PythonIntroCodingCourse;
 import io.github.agdturner.course.coding.intro.python.pages.ABM7;
@@ -30,9 +31,11 @@ public class SoGPythonIntroCodingCourseABM7 extends ABM7 {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public SoGPythonIntroCodingCourseABM7(PythonIntroCodingCourse course) {
-        super(course);
+    public SoGPythonIntroCodingCourseABM7(PythonIntroCodingCourse course,
+            PageID pageID) {
+        super(course, pageID);
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.intro.python.sog.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.Course;
 import io.github.agdturner.course.coding.intro.python.pages.PythonIntroCodingCourseProgramming;
@@ -26,8 +27,8 @@ import io.github.agdturner.course.coding.intro.python.pages.PythonIntroCodingCou
  */
 public class SoGPythonIntroCodingCourseProgramming extends PythonIntroCodingCourseProgramming {
 
-    public SoGPythonIntroCodingCourseProgramming(Course course) {
-        super(course);
+    public SoGPythonIntroCodingCourseProgramming(Course course, PageID pageID) {
+        super(course, pageID);
     }
 
     @Override
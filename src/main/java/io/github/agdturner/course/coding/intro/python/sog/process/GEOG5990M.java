@@ -53,11 +53,10 @@ public class GEOG5990M extends SoGPythonIntroCodingCourse {
     }
 
     /**
-     * Main method
-     *
-     * @param args
+     * @param dir The directory in which the website directory is.
+     * @return A new instance configured for writing to dir.
      */
-    public static void main(String[] args) {
+    public static GEOG5990M create(Path dir) {
         String courseName = "Programming for Geographical Information Analysis:"
                 + " Core Skills";
         String courseNumber = "5990";
@@ -67,20 +66,28 @@ public class GEOG5990M extends SoGPythonIntroCodingCourse {
         String assignment1DueDate = "23rd March 2023";
         String assignment2Name = "Assignment 2 Independent Project";
         String assignment2DueDate = "11th May 2023";
-        //Path dir = Paths.get("C:", "Users", "agdtu", "src", "agdt");
-        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
-        Path local = Paths.get("courses", "computing");
         String domain = Environment.AGDTURNER_GITHUB_IO;
         //String  domain = "www.geog.leeds.ac.uk";
         Environment env = new Environment(domain, dir);
         //public final Path DIR_COURSES = Paths.get(dir.toString(), "courses");
         //public final String URL_GITHUB_AGDTURNER = URL_GITHUB + "agdturner/";
         boolean localPaths = true;
-        GEOG5990M course = new GEOG5990M(env, courseNumber, courseName, 
+        return new GEOG5990M(env, courseNumber, courseName, 
                 localPaths, "202223",
                 assignment1Name, assignment1DueDate, assignment1Weighting,
                 assignment2Name, assignment2DueDate, assignment2Weighting);
-        course.write(local);
+    }
+
+    /**
+     * Main method
+     *
+     * @param args
+     */
+    public static void main(String[] args) {
+        //Path dir = Paths.get("C:", "Users", "agdtu", "src", "agdt");
+        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
+        Path local = Paths.get("courses", "computing");
+        create(dir).write(local);
     }
 
 }
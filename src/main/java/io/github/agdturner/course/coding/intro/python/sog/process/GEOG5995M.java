@@ -54,11 +54,10 @@ public class GEOG5995M extends SoGPythonIntroCodingCourse {
     }
 
     /**
-     * Main method
-     *
-     * @param args
+     * @param dir The directory in which the website directory is.
+     * @return A new instance configured for writing to dir.
      */
-    public static void main(String[] args) {
+    public static GEOG5995M create(Path dir) {
         String courseName = "Programming for Social Science: Core Skills";
         String courseCode = "5995";
         int assignment1Weighting = 30;
@@ -67,19 +66,27 @@ public class GEOG5995M extends SoGPythonIntroCodingCourse {
         String assignment1DueDate = "23rd March 2023";
         String assignment2Name = "Assignment 2 Independent Project";
         String assignment2DueDate = "11th May 2023";
-        //Path dir = Paths.get("C:", "Users", "agdtu", "src", "agdt");
-        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
-        Path local = Paths.get("courses", "computing");
         String  domain = Environment.AGDTURNER_GITHUB_IO;
         //String  domain = "www.geog.leeds.ac.uk";
         Environment env = new Environment(domain, dir);
         //public final Path DIR_COURSES = Paths.get(dir.toString(), "courses");
         //public final String URL_GITHUB_AGDTURNER = URL_GITHUB + "agdturner/";
         boolean localPaths = true;
-        GEOG5995M course = new GEOG5995M(env, courseCode, courseName,
+        return new GEOG5995M(env, courseCode, courseName,
                 localPaths, "202223",
                 assignment1Name, assignment1DueDate, assignment1Weighting,
                 assignment2Name, assignment2DueDate, assignment2Weighting);
-        course.write(local);
+    }
+
+    /**
+     * Main method
+     *
+     * @param args
+     */
+    public static void main(String[] args) {
+        //Path dir = Paths.get("C:", "Users", "agdtu", "src", "agdt");
+        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
+        Path local = Paths.get("courses", "computing");
+        create(dir).write(local);
     }
 }
@@ -17,6 +17,7 @@ package io.github.agdturner.course.coding.java;
 
 import io.github.agdturner.core.Environment;
 import io.github.agdturner.course.coding.CodingCourse;
+import io.github.agdturner.jfr.IndexConstructionEvent;
 
 /**
  * Java for generating JavaCourse web content.
@@ -47,7 +48,13 @@ public abstract class JavaCodingCourse extends CodingCourse {
             String courseName, boolean localPaths) {
         super(env, COURSE_TYPE, COURSE_TYPE2, courseCode, courseName,
                 localPaths);
+        IndexConstructionEvent event = new IndexConstructionEvent();
+        event.begin();
         index = new JavaIndex(this, "index", "Index", "Index");
+        if (event.shouldCommit()) {
+            event.set(courseCode, index.label, 0L, 0);
+            event.commit();
+        }
         references = new JavaReferences(this, "references", "References",
                 "References");
     }
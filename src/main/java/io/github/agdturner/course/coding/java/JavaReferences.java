@@ -46,7 +46,7 @@ public class JavaReferences extends References {
         description = """
                       A "software" project management and comprehension tool.
                       """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
         
         term = "Netbeans";
         url = "https://netbeans.apache.org/";
@@ -54,6 +54,6 @@ public class JavaReferences extends References {
                       An "Integrated Development Environment", tooling \
                       platform and "application" framework.
                       """;
-        termToTerm.put(term, new Term(index, description, url));
+        termToTerm.put(term, new Term(description, url));
     }
 }
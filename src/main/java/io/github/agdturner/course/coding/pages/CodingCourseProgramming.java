@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.coding.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.SectionID;
 import io.github.agdturner.course.Course;
 import io.github.agdturner.course.pages.CourseProgramming;
@@ -30,9 +31,10 @@ public class CodingCourseProgramming extends CourseProgramming {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public CodingCourseProgramming(Course course) {
-        super(course);
+    public CodingCourseProgramming(Course course, PageID pageID) {
+        super(course, pageID);
     }
 
     @Override
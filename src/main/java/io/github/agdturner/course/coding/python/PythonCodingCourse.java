@@ -17,6 +17,7 @@ package io.github.agdturner.course.coding.python;
 
 import io.github.agdturner.core.Environment;
 import io.github.agdturner.course.coding.CodingCourse;
+import io.github.agdturner.jfr.IndexConstructionEvent;
 
 /**
  * Python Coding Course.
@@ -39,7 +40,13 @@ public abstract class PythonCodingCourse extends CodingCourse {
             String courseName, boolean localPaths) {
         super(env, COURSE_TYPE, COURSE_TYPE2, courseCode, courseName,
                 localPaths);
+        IndexConstructionEvent event = new IndexConstructionEvent();
+        event.begin();
         index = new PythonIndex(this, "index", "Index", "Index");
+        if (event.shouldCommit()) {
+            event.set(courseCode, index.label, 0L, 0);
+            event.commit();
+        }
         references = new PythonReferences(this, "references", "References",
                 "References");
     }
@@ -36,7 +36,7 @@ public abstract class CourseHome extends CoursePage {
     public CourseHome(Course course) {
         super(course, "home",
                 course.getCourseCode() + ": " + course.courseName,
-                "Home");
+                "Home", Course.HOME_PAGE_ID);
     }
 
     @Override
@@ -15,6 +15,7 @@
  */
 package io.github.agdturner.course.pages;
 
+import io.github.agdturner.core.PageID;
 import io.github.agdturner.course.CoursePage;
 import io.github.agdturner.course.Course;
 
@@ -29,10 +30,9 @@ public abstract class CourseProgramming extends CoursePage {
      * Create a new instance.
      *
      * @param course What {@link #site} is set to.
+     * @param pageID What {@link #pageID} is set to.
      */
-    public CourseProgramming(Course course) {
-        super(course, "programming", 
-                "Programming", 
-                "Programming");
+    public CourseProgramming(Course course, PageID pageID) {
+        super(course, "Programming", pageID);
     }
 }
@@ -0,0 +1,488 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link Sink} for writing a deterministic zip or tar archive without
+ * writing the files to disk. Each file is compressed when the stream for it
+ * is closed, in the thread that closes it, so when pages are written
+ * concurrently they are also compressed concurrently. The compressed files
+ * are held in memory, and when this is closed the archive is written with
+ * the entries in order of their names and with fixed timestamps, so that
+ * the same content always gives the same archive.
+ *
+ * The name of an entry is the path of the file relative to {@link #root}.
+ *
+ * @author Andy Turner
+ */
+public class ArchiveSink extends Sink implements Closeable {
+
+    /**
+     * The archive formats.
+     */
+    public enum Format {
+        /**
+         * A zip archive. Entries are deflated if {@link #compress} is true,
+         * otherwise they are stored.
+         */
+        ZIP,
+        /**
+         * A tar archive. If {@link #compress} is true, then this is gzip
+         * compressed with each entry a gzip member.
+         */
+        TAR
+    }
+
+    /**
+     * The DOS date of the timestamp of all zip entries: 1980-01-01.
+     */
+    public static final int DOS_DATE = (1 << 5) | 1;
+
+    /**
+     * The size of a tar block in bytes.
+     */
+    public static final int TAR_BLOCK = 512;
+
+    /**
+     * A POJO for an entry.
+     */
+    protected static class Entry {
+
+        /**
+         * The size of the file in bytes.
+         */
+        public final long size;
+
+        /**
+         * The CRC-32 of the file.
+         */
+        public final long crc;
+
+        /**
+         * The data written to the archive for the file, compressed if
+         * {@link #compress} is true. For a tar archive this includes the
+         * padding to a whole number of blocks.
+         */
+        public final byte[] data;
+
+        /**
+         * Create a new instance.
+         *
+         * @param size What {@link #size} is set to.
+         * @param crc What {@link #crc} is set to.
+         * @param data What {@link #data} is set to.
+         */
+        public Entry(long size, long crc, byte[] data) {
+            this.size = size;
+            this.crc = crc;
+            this.data = data;
+        }
+    }
+
+    /**
+     * The path of the archive.
+     */
+    public final Path archive;
+
+    /**
+     * The directory that entry names are relative to.
+     */
+    public final Path root;
+
+    /**
+     * The format.
+     */
+    public final Format format;
+
+    /**
+     * If true, then the archive is compressed.
+     */
+    public final boolean compress;
+
+    /**
+     * To look up an entry by name.
+     */
+    protected final ConcurrentSkipListMap<String, Entry> entries;
+
+    /**
+     * Create a new instance.
+     *
+     * @param archive What {@link #archive} is set to.
+     * @param root What {@link #root} is set to.
+     * @param format What {@link #format} is set to.
+     * @param compress What {@link #compress} is set to.
+     */
+    public ArchiveSink(Path archive, Path root, Format format,
+            boolean compress) {
+        this.archive = archive;
+        this.root = root.toAbsolutePath().normalize();
+        this.format = format;
+        this.compress = compress;
+        entries = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * Creates a new instance with the format from the extension of archive:
+     * {@code .zip} for a compressed zip archive, {@code .tar} for a tar
+     * archive and {@code .tar.gz} or {@code .tgz} for a compressed tar
+     * archive.
+     *
+     * @param archive The path of the archive.
+     * @param root The directory that entry names are relative to.
+     * @return A new instance.
+     */
+    public static ArchiveSink create(Path archive, Path root) {
+        String name = archive.getFileName().toString();
+        if (name.endsWith(".zip")) {
+            return new ArchiveSink(archive, root, Format.ZIP, true);
+        } else if (name.endsWith(".tar")) {
+            return new ArchiveSink(archive, root, Format.TAR, false);
+        } else if (name.endsWith(".tar.gz") || name.endsWith(".tgz")) {
+            return new ArchiveSink(archive, root, Format.TAR, true);
+        }
+        throw new IllegalArgumentException("Unknown archive format " + name
+                + ", expected .zip, .tar, .tar.gz or .tgz");
+    }
+
+    /**
+     * @param file The file.
+     * @return The name of the entry for file.
+     * @throws IOException If file is not in {@link #root}.
+     */
+    public String getName(Path file) throws IOException {
+        Path f = file.toAbsolutePath().normalize();
+        if (!f.startsWith(root) || f.equals(root)) {
+            throw new IOException(file + " is not in " + root);
+        }
+        return root.relativize(f).toString().replace('\\', '/');
+    }
+
+    @Override
+    public OutputStream newOutputStream(Path file) throws IOException {
+        String name = getName(file);
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                entries.put(name, toEntry(toByteArray()));
+            }
+        };
+    }
+
+    /**
+     * @param b The content of a file.
+     * @return An Entry for b.
+     * @throws IOException If encountered.
+     */
+    protected Entry toEntry(byte[] b) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(b);
+        byte[] data = b;
+        if (format == Format.TAR) {
+            int padding = (TAR_BLOCK - b.length % TAR_BLOCK) % TAR_BLOCK;
+            if (padding > 0 || compress) {
+                data = new byte[b.length + padding];
+                System.arraycopy(b, 0, data, 0, b.length);
+            }
+            if (compress) {
+                data = gzip(data);
+            }
+        } else if (compress) {
+            ByteArrayOutputStream bos = new ByteArrayOutputStream();
+            Deflater d = new Deflater(Deflater.BEST_COMPRESSION, true);
+            try (DeflaterOutputStream dos = new DeflaterOutputStream(bos, d)) {
+                dos.write(b);
+            } finally {
+                d.end();
+            }
+            data = bos.toByteArray();
+        }
+        return new Entry(b.length, crc.getValue(), data);
+    }
+
+    /**
+     * @param b The bytes to compress.
+     * @return b as a gzip member.
+     * @throws IOException If encountered.
+     */
+    protected static byte[] gzip(byte[] b) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (GZIPOutputStream gos = new GZIPOutputStream(bos)) {
+            gos.write(b);
+        }
+        return bos.toByteArray();
+    }
+
+    /**
+     * @param file The file.
+     * @return The entry for file.
+     * @throws IOException If there is no entry for file.
+     */
+    protected Entry getEntry(Path file) throws IOException {
+        Entry r = entries.get(getName(file));
+        if (r == null) {
+            throw new NoSuchFileException(file.toString());
+        }
+        return r;
+    }
+
+    @Override
+    public boolean exists(Path file) {
+        try {
+            return entries.containsKey(getName(file));
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    @Override
+    public long size(Path file) throws IOException {
+        return getEntry(file).size;
+    }
+
+    @Override
+    public void move(Path source, Path target) throws IOException {
+        Entry e = entries.remove(getName(source));
+        if (e == null) {
+            throw new NoSuchFileException(source.toString());
+        }
+        entries.put(getName(target), e);
+    }
+
+    @Override
+    public void delete(Path file) throws IOException {
+        if (entries.remove(getName(file)) == null) {
+            throw new NoSuchFileException(file.toString());
+        }
+    }
+
+    /**
+     * Writes {@link #archive}. A temporary file is written and then moved so
+     * that the archive is never partially written.
+     *
+     * @throws IOException If encountered.
+     */
+    @Override
+    public void close() throws IOException {
+        Path parent = archive.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path tmp = Paths.get(archive.toString() + ".tmp");
+        try (OutputStream os = Files.newOutputStream(tmp)) {
+            if (format == Format.TAR) {
+                writeTar(os);
+            } else {
+                writeZip(os);
+            }
+        }
+        Files.move(tmp, archive, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Writes the entries as a tar archive.
+     *
+     * @param os The stream to write to.
+     * @throws IOException If encountered.
+     */
+    protected void writeTar(OutputStream os) throws IOException {
+        for (var x : entries.entrySet()) {
+            byte[] header = getTarHeader(x.getKey(), x.getValue().size);
+            os.write(compress ? gzip(header) : header);
+            os.write(x.getValue().data);
+        }
+        byte[] end = new byte[2 * TAR_BLOCK];
+        os.write(compress ? gzip(end) : end);
+    }
+
+    /**
+     * @param name The entry name.
+     * @param size The size of the file.
+     * @return A ustar header block with a fixed timestamp.
+     * @throws IOException If name is too long.
+     */
+    protected static byte[] getTarHeader(String name, long size)
+            throws IOException {
+        byte[] h = new byte[TAR_BLOCK];
+        byte[] n = name.getBytes(StandardCharsets.UTF_8);
+        int split = 0;
+        if (n.length > 100) {
+            // Use the prefix field splitting the name at a '/'.
+            for (int i = n.length - 1; i > 0; i--) {
+                if (n[i] == '/' && n.length - i - 1 <= 100 && i <= 155) {
+                    split = i;
+                    break;
+                }
+            }
+            if (split == 0) {
+                throw new IOException("Name too long for tar: " + name);
+            }
+            System.arraycopy(n, 0, h, 345, split);
+            System.arraycopy(n, split + 1, h, 0, n.length - split - 1);
+        } else {
+            System.arraycopy(n, 0, h, 0, n.length);
+        }
+        putTarField(h, 100, 8, "0000644");
+        putTarField(h, 108, 8, "0000000");
+        putTarField(h, 116, 8, "0000000");
+        putTarField(h, 124, 12, String.format("%011o", size));
+        putTarField(h, 136, 12, "00000000000");
+        h[156] = '0';
+        putTarField(h, 257, 6, "ustar");
+        h[263] = '0';
+        h[264] = '0';
+        for (int i = 148; i < 156; i++) {
+            h[i] = ' ';
+        }
+        long sum = 0;
+        for (byte b : h) {
+            sum += b & 0xFF;
+        }
+        putTarField(h, 148, 7, String.format("%06o", sum));
+        return h;
+    }
+
+    /**
+     * Puts s followed by a zero byte into h.
+     *
+     * @param h The header.
+     * @param offset The offset of the field.
+     * @param length The length of the field.
+     * @param s The value.
+     */
+    private static void putTarField(byte[] h, int offset, int length,
+            String s) {
+        byte[] b = s.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(b, 0, h, offset, Math.min(b.length, length - 1));
+        h[offset + Math.min(b.length, length - 1)] = 0;
+    }
+
+    /**
+     * Writes the entries as a zip archive.
+     *
+     * @param os The stream to write to.
+     * @throws IOException If encountered.
+     */
+    protected void writeZip(OutputStream os) throws IOException {
+        if (entries.size() > 0xFFFF) {
+            throw new IOException("Too many entries for zip: "
+                    + entries.size());
+        }
+        int method = compress ? 8 : 0;
+        ByteArrayOutputStream cd = new ByteArrayOutputStream();
+        long offset = 0;
+        for (var x : entries.entrySet()) {
+            byte[] n = x.getKey().getBytes(StandardCharsets.UTF_8);
+            Entry e = x.getValue();
+            if (offset > 0xFFFFFFFFL || e.size > 0xFFFFFFFFL) {
+                throw new IOException("Archive too large for zip");
+            }
+            // Local file header
+            ByteArrayOutputStream h = new ByteArrayOutputStream();
+            putInt(h, 0x04034b50);
+            putZipFields(h, method, e, n.length);
+            putShort(h, 0);
+            h.write(n);
+            os.write(h.toByteArray());
+            os.write(e.data);
+            // Central directory header
+            putInt(cd, 0x02014b50);
+            putShort(cd, 20);
+            putZipFields(cd, method, e, n.length);
+            putShort(cd, 0);
+            putShort(cd, 0);
+            putShort(cd, 0);
+            putShort(cd, 0);
+            putInt(cd, 0);
+            putInt(cd, (int) offset);
+            cd.write(n);
+            offset += h.size() + e.data.length;
+        }
+        if (offset > 0xFFFFFFFFL) {
+            throw new IOException("Archive too large for zip");
+        }
+        os.write(cd.toByteArray());
+        // End of central directory record
+        ByteArrayOutputStream end = new ByteArrayOutputStream();
+        putInt(end, 0x06054b50);
+        putShort(end, 0);
+        putShort(end, 0);
+        putShort(end, entries.size());
+        putShort(end, entries.size());
+        putInt(end, cd.size());
+        putInt(end, (int) offset);
+        putShort(end, 0);
+        os.write(end.toByteArray());
+    }
+
+    /**
+     * Writes the fields common to zip local and central directory headers
+     * from the version needed to the extra field length.
+     *
+     * @param os The stream to write to.
+     * @param method The compression method.
+     * @param e The entry.
+     * @param nameLength The length of the entry name in bytes.
+     */
+    private static void putZipFields(ByteArrayOutputStream os, int method,
+            Entry e, int nameLength) {
+        putShort(os, 20);
+        // UTF-8 names
+        putShort(os, 0x0800);
+        putShort(os, method);
+        putShort(os, 0);
+        putShort(os, DOS_DATE);
+        putInt(os, (int) e.crc);
+        putInt(os, e.data.length);
+        putInt(os, (int) e.size);
+        putShort(os, nameLength);
+    }
+
+    /**
+     * Writes v as 2 bytes little endian.
+     *
+     * @param os The stream to write to.
+     * @param v The value.
+     */
+    private static void putShort(ByteArrayOutputStream os, int v) {
+        os.write(v & 0xFF);
+        os.write((v >>> 8) & 0xFF);
+    }
+
+    /**
+     * Writes v as 4 bytes little endian.
+     *
+     * @param os The stream to write to.
+     * @param v The value.
+     */
+    private static void putInt(ByteArrayOutputStream os, int v) {
+        putShort(os, v & 0xFFFF);
+        putShort(os, (v >>> 16) & 0xFFFF);
+    }
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import io.github.agdturner.jfr.AssetCopyEvent;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * For fingerprinting the files referenced in generated HTML. A file
+ * referenced by a {@code src} or {@code href} attribute is copied to a file
+ * next to it with part of the hash of its content added to the name, and the
+ * reference is rewritten to refer to the copy. As the name of a copy changes
+ * whenever the content does, copies can be cached indefinitely. A metadata
+ * file listing each asset, its copy and a subresource integrity hash, and a
+ * file of cache headers for the copies are written at the end of a build.
+ * The copies are recorded in the build {@link Manifest}, so that copies no
+ * longer referred to are deleted (see {@link Manifest#deleteStaleCopies()}).
+ *
+ * @author Andy Turner
+ */
+public class Assets {
+
+    /**
+     * The Cache-Control header value for fingerprinted copies.
+     */
+    public static final String CACHE_CONTROL
+            = "public, max-age=31536000, immutable";
+
+    /**
+     * The number of hexadecimal characters of the hash added to names.
+     */
+    public static final int FINGERPRINT_LENGTH = 10;
+
+    /**
+     * The attributes with values that are checked for references.
+     */
+    private static final String[] ATTRIBUTES = {"src=\"", "href=\""};
+
+    /**
+     * A POJO for a fingerprinted asset.
+     */
+    public static class Asset {
+
+        /**
+         * The file.
+         */
+        public final Path file;
+
+        /**
+         * The fingerprinted copy of {@link #file}.
+         */
+        public final Path copy;
+
+        /**
+         * A subresource integrity value for {@link #file}.
+         */
+        public final String integrity;
+
+        /**
+         * Create a new instance.
+         *
+         * @param file What {@link #file} is set to.
+         * @param copy What {@link #copy} is set to.
+         * @param integrity What {@link #integrity} is set to.
+         */
+        public Asset(Path file, Path copy, String integrity) {
+            this.file = file;
+            this.copy = copy;
+            this.integrity = integrity;
+        }
+    }
+
+    /**
+     * The directory that references starting with "/" are relative to.
+     */
+    public final Path root;
+
+    /**
+     * To look up an Asset from a normalised absolute file path.
+     */
+    protected final ConcurrentHashMap<Path, Asset> fileToAsset;
+
+    /**
+     * Create a new instance.
+     *
+     * @param root What {@link #root} is set to.
+     */
+    public Assets(Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        fileToAsset = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Rewrites the references in html to files that exist so that they refer
+     * to fingerprinted copies.
+     *
+     * @param dir The directory of the page the html is for.
+     * @param html The HTML.
+     * @return html with references rewritten.
+     */
+    public String rewrite(Path dir, String html) {
+        StringBuilder sb = null;
+        int last = 0;
+        for (String attribute : ATTRIBUTES) {
+            int i = html.indexOf(attribute);
+            while (i >= 0) {
+                int st = i + attribute.length();
+                int et = html.indexOf('"', st);
+                if (et < 0) {
+                    break;
+                }
+                String ref = html.substring(st, et);
+                String r = rewriteReference(dir, ref);
+                if (!r.equals(ref)) {
+                    if (sb == null) {
+                        sb = new StringBuilder(html.length() + 64);
+                    }
+                    sb.append(html, last, st).append(r);
+                    last = et;
+                }
+                i = html.indexOf(attribute, et);
+            }
+            if (sb != null) {
+                sb.append(html, last, html.length());
+                html = sb.toString();
+                sb = null;
+                last = 0;
+            }
+        }
+        return html;
+    }
+
+    /**
+     * @param dir The directory of the page the reference is in.
+     * @param ref The reference.
+     * @return The reference to the fingerprinted copy of the file referred to
+     * or ref if it does not refer to a file or to a page.
+     */
+    public String rewriteReference(Path dir, String ref) {
+        if (ref.isEmpty() || ref.contains(":") || ref.startsWith("#")
+                || ref.startsWith("//") || ref.contains("?")
+                || ref.endsWith(".html") || ref.endsWith("/")) {
+            return ref;
+        }
+        Path file;
+        if (ref.startsWith("/")) {
+            file = Paths.get(root.toString(), ref.substring(1));
+        } else {
+            file = dir.toAbsolutePath().resolve(ref);
+        }
+        file = file.normalize();
+        if (!Files.isRegularFile(file)) {
+            return ref;
+        }
+        try {
+            Asset a = getAsset(file);
+            int i = ref.lastIndexOf('/');
+            return ref.substring(0, i + 1) + a.copy.getFileName().toString();
+        } catch (IOException ex) {
+            Logger.getLogger(Assets.class.getName()).log(Level.SEVERE, null,
+                    ex);
+            return ref;
+        }
+    }
+
+    /**
+     * Gets the Asset for file writing the fingerprinted copy if need be. Pages
+     * are written concurrently, so this is atomic for each file.
+     *
+     * @param file The normalised absolute path of the file.
+     * @return The Asset for file.
+     * @throws IOException If encountered.
+     */
+    public Asset getAsset(Path file) throws IOException {
+        try {
+            return fileToAsset.computeIfAbsent(file, f -> {
+                try {
+                    return fingerprint(f);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Hashes file and writes the fingerprinted copy if it does not exist. The
+     * copy is written to a temporary file that is then moved atomically, so
+     * the copy is never seen part written by other builds.
+     *
+     * @param file The file.
+     * @return An Asset for file.
+     * @throws IOException If encountered.
+     */
+    protected Asset fingerprint(Path file) throws IOException {
+        AssetCopyEvent event = new AssetCopyEvent();
+        event.begin();
+        MessageDigest md = Manifest.getDigest();
+        MessageDigest sri;
+        try {
+            sri = MessageDigest.getInstance("SHA-384");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+        try (InputStream is = new DigestInputStream(new DigestInputStream(
+                Files.newInputStream(file), md), sri)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        }
+        String hash = Manifest.toHex(md.digest());
+        String name = file.getFileName().toString();
+        int i = name.lastIndexOf('.');
+        String fingerprint = hash.substring(0, FINGERPRINT_LENGTH);
+        String copyName = i < 0 ? name + "." + fingerprint
+                : name.substring(0, i) + "." + fingerprint + name.substring(i);
+        Path copy = Paths.get(file.getParent().toString(), copyName);
+        if (!Files.exists(copy)) {
+            Path tmp = Files.createTempFile(copy.getParent(), copyName, ".tmp");
+            try {
+                Files.copy(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(tmp, copy, StandardCopyOption.ATOMIC_MOVE,
+                        StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        }
+        if (event.shouldCommit()) {
+            event.set(null, file.getFileName().toString(), Files.size(file), 0);
+            event.commit();
+        }
+        return new Asset(file, copy, "sha384-"
+                + Base64.getEncoder().encodeToString(sri.digest()));
+    }
+
+    /**
+     * @return The fingerprinted copies of the assets referred to so far.
+     */
+    public List<Path> getCopies() {
+        List<Path> r = new ArrayList<>();
+        for (Asset a : fileToAsset.values()) {
+            r.add(a.copy);
+        }
+        return r;
+    }
+
+    /**
+     * @param file A file.
+     * @return The path of the file relative to {@link #root} starting with
+     * "/" if the file is in {@link #root}, otherwise the path of the file.
+     */
+    public String getURLPath(Path file) {
+        if (file.startsWith(root)) {
+            return "/" + root.relativize(file).toString().replace('\\', '/');
+        }
+        return file.toString().replace('\\', '/');
+    }
+
+    /**
+     * Writes a metadata file and a headers file. Each line of the metadata
+     * file is the path of an asset, the path of its fingerprinted copy and
+     * the subresource integrity value separated by tabs. The headers file
+     * gives {@link #CACHE_CONTROL} for each copy in the format used by some
+     * static hosts for a file named {@code _headers}.
+     *
+     * @param metadata The path of the metadata file to write.
+     * @param headers The path of the headers file to write.
+     * @throws IOException If encountered.
+     */
+    public void write(Path metadata, Path headers) throws IOException {
+        StringBuilder m = new StringBuilder();
+        StringBuilder h = new StringBuilder();
+        for (Asset a : new TreeMap<>(fileToAsset).values()) {
+            String copy = getURLPath(a.copy);
+            m.append(getURLPath(a.file)).append("\t").append(copy)
+                    .append("\t").append(a.integrity).append("\n");
+            h.append(copy).append("\n  Cache-Control: ")
+                    .append(CACHE_CONTROL).append("\n");
+        }
+        Files.writeString(metadata, m.toString(), StandardCharsets.UTF_8);
+        Files.writeString(headers, h.toString(), StandardCharsets.UTF_8);
+    }
+}
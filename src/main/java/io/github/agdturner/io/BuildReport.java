@@ -0,0 +1,305 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A report of the {@link PageMetrics} of the pages of a site build. This can
+ * be written as JSON and as HTML. The report gives site totals and picks out
+ * the slowest pages and the heaviest pages, those with the largest files.
+ *
+ * @author Andy Turner
+ */
+public class BuildReport {
+
+    /**
+     * The number of slowest and of heaviest pages picked out.
+     */
+    public static final int HIGHLIGHTED = 5;
+
+    /**
+     * The name of the site.
+     */
+    public final String name;
+
+    /**
+     * The metrics of each page in write order.
+     */
+    public final List<PageMetrics> pages;
+
+    /**
+     * The site totals.
+     */
+    public final PageMetrics total;
+
+    /**
+     * The slowest pages, slowest first.
+     */
+    public final List<PageMetrics> slowest;
+
+    /**
+     * The heaviest pages, heaviest first.
+     */
+    public final List<PageMetrics> heaviest;
+
+    /**
+     * Create a new instance.
+     *
+     * @param name What {@link #name} is set to.
+     * @param pages What {@link #pages} is set to.
+     */
+    public BuildReport(String name, List<PageMetrics> pages) {
+        this.name = name;
+        this.pages = pages;
+        total = new PageMetrics("Total");
+        for (PageMetrics m : pages) {
+            total.add(m);
+        }
+        slowest = top(Comparator.comparingLong(PageMetrics::getNanos));
+        heaviest = top(Comparator.comparingLong(m -> m.bytes));
+    }
+
+    /**
+     * @param c The comparator.
+     * @return The {@link #HIGHLIGHTED} greatest pages according to c.
+     */
+    private List<PageMetrics> top(Comparator<PageMetrics> c) {
+        List<PageMetrics> r = new ArrayList<>(pages);
+        r.sort(c.reversed());
+        return r.subList(0, Math.min(HIGHLIGHTED, r.size()));
+    }
+
+    /**
+     * @return The report as JSON.
+     */
+    public String toJSON() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("{\n  \"site\": ").append(quote(name))
+                .append(",\n  \"pages\": ").append(pages.size())
+                .append(",\n  \"total\": ");
+        appendJSON(sb, total);
+        sb.append(",\n  \"slowest\": ");
+        appendNames(sb, slowest);
+        sb.append(",\n  \"heaviest\": ");
+        appendNames(sb, heaviest);
+        sb.append(",\n  \"page\": [");
+        for (int i = 0; i < pages.size(); i++) {
+            sb.append(i == 0 ? "\n    " : ",\n    ");
+            appendJSON(sb, pages.get(i));
+        }
+        sb.append("\n  ]\n}\n");
+        return sb.toString();
+    }
+
+    /**
+     * Appends m as a JSON object to sb.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param m The metrics.
+     */
+    private static void appendJSON(StringBuilder sb, PageMetrics m) {
+        sb.append("{\"name\": ").append(quote(m.name));
+        if (m.file != null) {
+            sb.append(", \"file\": ").append(quote(m.file))
+                    .append(", \"written\": ").append(m.written);
+        }
+        sb.append(", \"cached\": ").append(m.cached)
+                .append(", \"sections\": ").append(m.sections)
+                .append(", \"references\": ").append(m.references)
+                .append(", \"mainContentNanos\": ").append(m.mainContentNanos)
+                .append(", \"contentsNanos\": ").append(m.contentsNanos)
+                .append(", \"writeNanos\": ").append(m.writeNanos)
+                .append(", \"nanos\": ").append(m.getNanos())
+                .append(", \"bytes\": ").append(m.bytes)
+                .append(", \"allocatedBytes\": ").append(m.allocatedBytes)
+                .append("}");
+    }
+
+    /**
+     * Appends the names of pages as a JSON array to sb.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param pages The pages.
+     */
+    private static void appendNames(StringBuilder sb, List<PageMetrics> pages) {
+        sb.append("[");
+        for (int i = 0; i < pages.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(quote(pages.get(i).name));
+        }
+        sb.append("]");
+    }
+
+    /**
+     * @param s The String.
+     * @return s as a JSON string.
+     */
+    private static String quote(String s) {
+        StringBuilder sb = new StringBuilder(s.length() + 2);
+        sb.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' ->
+                    sb.append("\\\"");
+                case '\\' ->
+                    sb.append("\\\\");
+                case '\n' ->
+                    sb.append("\\n");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * @return The report as an HTML page. The rows of the slowest and
+     * heaviest pages are highlighted.
+     */
+    public String toHTML() {
+        Set<PageMetrics> slow = new HashSet<>(slowest);
+        Set<PageMetrics> heavy = new HashSet<>(heaviest);
+        StringBuilder sb = new StringBuilder();
+        sb.append("""
+                  <!DOCTYPE html>
+                  <html lang="en">
+                  <head>
+                  <meta charset="UTF-8">
+                  <title>Build Report</title>
+                  <style>
+                  table { border-collapse: collapse; }
+                  th, td { border: 1px solid #999; padding: 2px 6px; }
+                  td { text-align: right; }
+                  td:first-child { text-align: left; }
+                  .slowest td:nth-child(5), .heaviest td:nth-child(6) {
+                   background: #fc9; font-weight: bold; }
+                  tfoot td { font-weight: bold; }
+                  </style>
+                  </head>
+                  <body>
+                  """);
+        sb.append("<h1>Build Report: ").append(escape(name)).append("</h1>\n");
+        sb.append("<p>").append(pages.size()).append(" pages, ")
+                .append(format(total.getNanos())).append(" ms, ")
+                .append(total.bytes).append(" bytes, ")
+                .append(total.allocatedBytes).append(" bytes allocated.</p>\n");
+        sb.append("<p>Slowest: ");
+        appendNames(sb, slowest, m -> format(m.getNanos()) + " ms");
+        sb.append("</p>\n<p>Heaviest: ");
+        appendNames(sb, heaviest, m -> m.bytes + " bytes");
+        sb.append("</p>\n<table>\n<thead>\n<tr><th>Page</th>"
+                + "<th>Main content (ms)</th><th>Contents (ms)</th>"
+                + "<th>Write (ms)</th><th>Total (ms)</th><th>Bytes</th>"
+                + "<th>Sections</th><th>References</th>"
+                + "<th>Allocated bytes</th></tr>\n</thead>\n<tbody>\n");
+        for (PageMetrics m : pages) {
+            String c = (slow.contains(m) ? "slowest " : "")
+                    + (heavy.contains(m) ? "heaviest" : "");
+            sb.append(c.isEmpty() ? "<tr>" : "<tr class=\"" + c.trim()
+                    + "\">");
+            appendRow(sb, m);
+        }
+        sb.append("</tbody>\n<tfoot>\n<tr>");
+        appendRow(sb, total);
+        sb.append("</tfoot>\n</table>\n</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Appends the names of pages each followed by a value in brackets.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param pages The pages.
+     * @param value For getting the value.
+     */
+    private static void appendNames(StringBuilder sb, List<PageMetrics> pages,
+            Function<PageMetrics, String> value) {
+        for (int i = 0; i < pages.size(); i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            PageMetrics m = pages.get(i);
+            sb.append(escape(m.name)).append(" (").append(value.apply(m))
+                    .append(")");
+        }
+    }
+
+    /**
+     * Appends the cells of a table row for m and the end of the row.
+     *
+     * @param sb The StringBuilder to append to.
+     * @param m The metrics.
+     */
+    private static void appendRow(StringBuilder sb, PageMetrics m) {
+        sb.append("<td>").append(escape(m.name)).append("</td><td>")
+                .append(format(m.mainContentNanos)).append("</td><td>")
+                .append(format(m.contentsNanos)).append("</td><td>")
+                .append(format(m.writeNanos)).append("</td><td>")
+                .append(format(m.getNanos())).append("</td><td>")
+                .append(m.bytes).append("</td><td>")
+                .append(m.sections).append("</td><td>")
+                .append(m.references).append("</td><td>")
+                .append(m.allocatedBytes).append("</td></tr>\n");
+    }
+
+    /**
+     * @param nanos A time in nanoseconds.
+     * @return The time in milliseconds to 3 decimal places.
+     */
+    private static String format(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1E6);
+    }
+
+    /**
+     * @param s The String.
+     * @return s with HTML special characters escaped.
+     */
+    private static String escape(String s) {
+        return s.replace("&", "&amp;").replace("<", "&lt;")
+                .replace(">", "&gt;");
+    }
+
+    /**
+     * Writes the report as JSON and as HTML.
+     *
+     * @param json The path of the JSON file to write.
+     * @param html The path of the HTML file to write.
+     * @throws IOException If encountered.
+     */
+    public void write(Path json, Path html) throws IOException {
+        Files.writeString(json, toJSON(), StandardCharsets.UTF_8);
+        Files.writeString(html, toHTML(), StandardCharsets.UTF_8);
+    }
+}
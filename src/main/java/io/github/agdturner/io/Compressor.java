@@ -0,0 +1,211 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * For writing gzip compressed siblings of the files recorded in a
+ * {@link Manifest} so that a static host can serve these precompressed. A
+ * file {@code x} is compressed to {@code x.gz}. Files are compressed
+ * concurrently and a file is only compressed again if it has changed since
+ * the last build or if its compressed sibling is missing.
+ *
+ * @author Andy Turner
+ */
+public class Compressor {
+
+    /**
+     * The suffix added to the name of a file for its compressed sibling.
+     */
+    public static final String SUFFIX = ".gz";
+
+    /**
+     * The extensions of the files that are compressed. Other files such as
+     * images are typically already compressed.
+     */
+    public static final Set<String> EXTENSIONS = Set.of("html", "css", "js",
+            "svg", "txt", "json", "xml", "csv", "md", "py", "java", "cpp", "h");
+
+    /**
+     * A GZIPOutputStream using the best compression level.
+     */
+    private static class BestGZIPOutputStream extends GZIPOutputStream {
+
+        /**
+         * Create a new instance.
+         *
+         * @param out The stream to write to.
+         * @throws IOException If encountered.
+         */
+        BestGZIPOutputStream(OutputStream out) throws IOException {
+            super(out, 65536);
+            def.setLevel(Deflater.BEST_COMPRESSION);
+        }
+    }
+
+    /**
+     * For each file compressed in this build, the path relative to the
+     * manifest directory mapped to the size of the file and the size of the
+     * compressed file.
+     */
+    public final ConcurrentSkipListMap<String, long[]> compressed;
+
+    /**
+     * The paths of files not compressed again as they are unchanged.
+     */
+    public final ConcurrentSkipListSet<String> unchanged;
+
+    /**
+     * Create a new instance.
+     */
+    public Compressor() {
+        compressed = new ConcurrentSkipListMap<>();
+        unchanged = new ConcurrentSkipListSet<>();
+    }
+
+    /**
+     * @param file The file.
+     * @return true if the extension of file is in {@link #EXTENSIONS}.
+     */
+    public static boolean isCompressible(Path file) {
+        String name = file.getFileName().toString();
+        int i = name.lastIndexOf('.');
+        return i >= 0 && EXTENSIONS.contains(name.substring(i + 1));
+    }
+
+    /**
+     * @param file The file.
+     * @return The compressed sibling of file.
+     */
+    public static Path getCompressedPath(Path file) {
+        return Paths.get(file.toString() + SUFFIX);
+    }
+
+    /**
+     * Writes the compressed sibling of file. A temporary file is written and
+     * then moved so that the sibling is never partially written.
+     *
+     * @param file The file to compress.
+     * @return The size of the compressed file.
+     * @throws IOException If encountered.
+     */
+    public static long gzip(Path file) throws IOException {
+        Path gz = getCompressedPath(file);
+        Path tmp = Paths.get(gz.toString() + ".tmp");
+        try (InputStream is = Files.newInputStream(file);
+                OutputStream os = new BestGZIPOutputStream(
+                        Files.newOutputStream(tmp))) {
+            is.transferTo(os);
+        }
+        Files.move(tmp, gz, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(gz);
+    }
+
+    /**
+     * Compresses the compressible files recorded in manifest unless they are
+     * unchanged and their compressed sibling exists.
+     *
+     * @param manifest The manifest.
+     * @param executor The executor to compress files with.
+     */
+    public void compress(Manifest manifest, ExecutorService executor) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (String key : manifest.getKeys()) {
+            Path file = manifest.getFile(key);
+            if (isCompressible(file)) {
+                futures.add(executor.submit(() -> compress(manifest, key,
+                        file)));
+            }
+        }
+        try {
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } catch (ExecutionException ex) {
+            throw new RuntimeException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Compresses file unless it is unchanged and its compressed sibling
+     * exists.
+     *
+     * @param manifest The manifest.
+     * @param key The path of file relative to the manifest directory.
+     * @param file The file.
+     */
+    protected void compress(Manifest manifest, String key, Path file) {
+        try {
+            if (!manifest.isChanged(key)
+                    && Files.exists(getCompressedPath(file))) {
+                unchanged.add(key);
+            } else if (Files.exists(file)) {
+                compressed.put(key, new long[]{Files.size(file), gzip(file)});
+            }
+        } catch (IOException ex) {
+            Logger.getLogger(Compressor.class.getName()).log(Level.SEVERE,
+                    null, ex);
+        }
+    }
+
+    /**
+     * @return A report of the files compressed and the bytes saved for each.
+     */
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        long size = 0;
+        long saved = 0;
+        for (var x : compressed.entrySet()) {
+            long[] v = x.getValue();
+            size += v[0];
+            saved += v[0] - v[1];
+        }
+        sb.append(compressed.size()).append(" files compressed, ")
+                .append(unchanged.size()).append(" files unchanged, ")
+                .append(saved).append(" of ").append(size)
+                .append(" bytes saved.");
+        for (var x : compressed.entrySet()) {
+            long[] v = x.getValue();
+            sb.append("\nCompressed: ").append(x.getKey()).append(" ")
+                    .append(v[0]).append(" -> ").append(v[1])
+                    .append(" bytes (").append(v[0] - v[1])
+                    .append(" saved)");
+        }
+        return sb.toString();
+    }
+}
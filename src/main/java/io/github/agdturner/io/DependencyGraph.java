@@ -0,0 +1,282 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * A record of which sections each page of a site has and which index terms
+ * are used in each section. It is stored in the build directory of the site
+ * (see {@link io.github.agdturner.core.Site#getBuildDir()}) so that a later
+ * build can lay out and write only some pages and restore what the
+ * others added to the site from this rather than by laying them out.
+ *
+ * Each line of the file is a record with fields separated by tabs:
+ * <ul>
+ * <li>{@code P <page>} A page filename. These are in write order.</li>
+ * <li>{@code S <id> <page> <inPageID> <name>} A section.</li>
+ * <li>{@code K <id> <key>} A section key (see
+ * {@link io.github.agdturner.core.Site#getSectionKey(String, String)}).</li>
+ * <li>{@code T <id> <term>} A use of an index term in a section.</li>
+ * </ul>
+ * Tabs, newlines and backslashes in fields are escaped with a backslash.
+ *
+ * @author Andy Turner
+ */
+public class DependencyGraph {
+
+    /**
+     * A POJO for a section.
+     */
+    public static class Section {
+
+        /**
+         * The SectionID.
+         */
+        public final int id;
+
+        /**
+         * The filename of the page the section is in.
+         */
+        public final String page;
+
+        /**
+         * The in page section ID for linking.
+         */
+        public final String inPageID;
+
+        /**
+         * The name of the section as given in the index.
+         */
+        public final String name;
+
+        /**
+         * Create a new instance.
+         *
+         * @param id What {@link #id} is set to.
+         * @param page What {@link #page} is set to.
+         * @param inPageID What {@link #inPageID} is set to.
+         * @param name What {@link #name} is set to.
+         */
+        public Section(int id, String page, String inPageID, String name) {
+            this.id = id;
+            this.page = page;
+            this.inPageID = inPageID;
+            this.name = name;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Section s && s.id == id && s.page.equals(page)
+                    && s.inPageID.equals(inPageID) && s.name.equals(name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(id, page, inPageID, name);
+        }
+    }
+
+    /**
+     * The page filenames in write order.
+     */
+    public final List<String> pages;
+
+    /**
+     * To look up a Section from its id.
+     */
+    public final TreeMap<Integer, Section> sections;
+
+    /**
+     * To look up the id of a section from its key.
+     */
+    public final TreeMap<String, Integer> sectionKeys;
+
+    /**
+     * To look up the ids of the sections in which a term is used from the
+     * term name.
+     */
+    public final TreeMap<String, TreeSet<Integer>> terms;
+
+    /**
+     * Create a new empty instance.
+     */
+    public DependencyGraph() {
+        pages = new ArrayList<>();
+        sections = new TreeMap<>();
+        sectionKeys = new TreeMap<>();
+        terms = new TreeMap<>();
+    }
+
+    /**
+     * @param term The term name.
+     * @param id The id of the section the term is used in.
+     */
+    public void addTerm(String term, int id) {
+        terms.computeIfAbsent(term, k -> new TreeSet<>()).add(id);
+    }
+
+    /**
+     * @param page The filename of a page.
+     * @return The names of the terms used in page.
+     */
+    public TreeSet<String> getTerms(String page) {
+        TreeSet<String> r = new TreeSet<>();
+        for (var x : terms.entrySet()) {
+            for (int id : x.getValue()) {
+                if (sections.get(id).page.equals(page)) {
+                    r.add(x.getKey());
+                    break;
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param g Another graph.
+     * @return The names of the terms for which the sections they are used in
+     * differ between this and g. These are the entries of an index that
+     * differ.
+     */
+    public TreeSet<String> getChangedTerms(DependencyGraph g) {
+        TreeSet<String> names = new TreeSet<>(terms.keySet());
+        names.addAll(g.terms.keySet());
+        TreeSet<String> r = new TreeSet<>();
+        for (String name : names) {
+            if (!getSections(name).equals(g.getSections(name))) {
+                r.add(name);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @param term The term name.
+     * @return The sections term is used in.
+     */
+    protected List<Section> getSections(String term) {
+        List<Section> r = new ArrayList<>();
+        TreeSet<Integer> ids = terms.get(term);
+        if (ids != null) {
+            for (int id : ids) {
+                r.add(sections.get(id));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Reads a graph from file.
+     *
+     * @param file The file to read.
+     * @return The graph read.
+     * @throws IOException If encountered.
+     */
+    public static DependencyGraph read(Path file) throws IOException {
+        DependencyGraph r = new DependencyGraph();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] f = line.split("\t", -1);
+            for (int i = 1; i < f.length; i++) {
+                f[i] = unescape(f[i]);
+            }
+            switch (f[0]) {
+                case "P" ->
+                    r.pages.add(f[1]);
+                case "S" -> {
+                    int id = Integer.parseInt(f[1]);
+                    r.sections.put(id, new Section(id, f[2], f[3], f[4]));
+                }
+                case "K" ->
+                    r.sectionKeys.put(f[2], Integer.valueOf(f[1]));
+                case "T" ->
+                    r.addTerm(f[2], Integer.parseInt(f[1]));
+                default ->
+                    throw new IOException("Unexpected line in " + file + ": "
+                            + line);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Writes this to file.
+     *
+     * @param file The file to write.
+     * @throws IOException If encountered.
+     */
+    public void write(Path file) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (String page : pages) {
+            sb.append("P\t").append(escape(page)).append("\n");
+        }
+        for (Section s : sections.values()) {
+            sb.append("S\t").append(s.id).append("\t").append(escape(s.page))
+                    .append("\t").append(escape(s.inPageID)).append("\t")
+                    .append(escape(s.name)).append("\n");
+        }
+        for (var x : sectionKeys.entrySet()) {
+            sb.append("K\t").append(x.getValue()).append("\t")
+                    .append(escape(x.getKey())).append("\n");
+        }
+        for (var x : terms.entrySet()) {
+            for (int id : x.getValue()) {
+                sb.append("T\t").append(id).append("\t")
+                        .append(escape(x.getKey())).append("\n");
+            }
+        }
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, sb.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param s The String to escape.
+     * @return s with backslashes, tabs and newlines escaped.
+     */
+    protected static String escape(String s) {
+        return s.replace("\\", "\\\\").replace("\t", "\\t")
+                .replace("\n", "\\n");
+    }
+
+    /**
+     * @param s The String to unescape.
+     * @return s with what {@link #escape(String)} escapes unescaped.
+     */
+    protected static String unescape(String s) {
+        if (s.indexOf('\\') < 0) {
+            return s;
+        }
+        StringBuilder sb = new StringBuilder(s.length());
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\\' && i + 1 < s.length()) {
+                char n = s.charAt(++i);
+                sb.append(n == 't' ? '\t' : n == 'n' ? '\n' : n);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
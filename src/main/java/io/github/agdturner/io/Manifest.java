@@ -0,0 +1,494 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * A build manifest. This records a hash of the content of each file written
+ * in a build and of each asset file. It is stored next to the output and
+ * loaded at the start of the next build so that files with unchanged content
+ * need not be written again, and so that what changed can be reported.
+ *
+ * Asset files with the {@link Compressor#SUFFIX} are not recorded as these
+ * are generated.
+ *
+ * Each line of the manifest file is an entry: the hash, the size, the last
+ * modified time in milliseconds and the path relative to the directory of
+ * the manifest file, separated by tabs. Other lines are {@link #COPY}, a tab
+ * and the path of a fingerprinted copy of an asset written for the build
+ * (see {@link Assets}), so copies no longer referred to can be deleted in a
+ * later build. A history file records the date each page hash was first
+ * built.
+ *
+ * @author Andy Turner
+ */
+public class Manifest {
+
+    /**
+     * The hash algorithm.
+     */
+    public static final String ALGORITHM = "SHA-256";
+
+    /**
+     * The first field of lines of the manifest file for fingerprinted copies.
+     */
+    public static final String COPY = "copy";
+
+    /**
+     * A POJO for a manifest entry.
+     */
+    public static class Entry {
+
+        /**
+         * The hash of the content.
+         */
+        public final String hash;
+
+        /**
+         * The size of the file in bytes.
+         */
+        public final long size;
+
+        /**
+         * The last modified time of the file in milliseconds.
+         */
+        public final long lastModified;
+
+        /**
+         * Create a new instance.
+         *
+         * @param hash What {@link #hash} is set to.
+         * @param size What {@link #size} is set to.
+         * @param lastModified What {@link #lastModified} is set to.
+         */
+        public Entry(String hash, long size, long lastModified) {
+            this.hash = hash;
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+    }
+
+    /**
+     * The path of the manifest file.
+     */
+    public final Path path;
+
+    /**
+     * The directory the paths of entries are relative to.
+     */
+    public final Path dir;
+
+    /**
+     * The entries loaded from the manifest file.
+     */
+    protected final TreeMap<String, Entry> previous;
+
+    /**
+     * The entries for this build.
+     */
+    protected final ConcurrentSkipListMap<String, Entry> current;
+
+    /**
+     * The paths of pages written in this build.
+     */
+    public final ConcurrentSkipListSet<String> written;
+
+    /**
+     * The paths of pages not written in this build as their content is
+     * unchanged.
+     */
+    public final ConcurrentSkipListSet<String> unchanged;
+
+    /**
+     * The paths of assets that are new or have changed since the last build.
+     */
+    public final ConcurrentSkipListSet<String> changedAssets;
+
+    /**
+     * The paths of the fingerprinted copies loaded from the manifest file.
+     */
+    protected final TreeSet<String> previousCopies;
+
+    /**
+     * The paths of the fingerprinted copies for this build.
+     */
+    protected final ConcurrentSkipListSet<String> copies;
+
+    /**
+     * The paths of fingerprinted copies deleted in this build.
+     */
+    public final ConcurrentSkipListSet<String> deletedCopies;
+
+    /**
+     * The path of the history file. This records for each page hash the date
+     * it was first built.
+     */
+    public final Path historyPath;
+
+    /**
+     * To look up the date a page hash was first built.
+     */
+    protected final ConcurrentSkipListMap<String, String> hashToDate;
+
+    /**
+     * Creates a new instance loading any existing manifest file at path. The
+     * history file is next to the manifest file.
+     *
+     * @param path What {@link #path} is set to.
+     * @throws IOException If encountered.
+     */
+    public Manifest(Path path) throws IOException {
+        this(path, Paths.get(path.toAbsolutePath().getParent().toString(),
+                "build-history.txt"));
+    }
+
+    /**
+     * Creates a new instance loading any existing manifest file at path and
+     * history file at historyPath.
+     *
+     * @param path What {@link #path} is set to.
+     * @param historyPath What {@link #historyPath} is set to.
+     * @throws IOException If encountered.
+     */
+    public Manifest(Path path, Path historyPath) throws IOException {
+        this.path = path;
+        this.dir = path.toAbsolutePath().getParent();
+        previous = new TreeMap<>();
+        current = new ConcurrentSkipListMap<>();
+        written = new ConcurrentSkipListSet<>();
+        unchanged = new ConcurrentSkipListSet<>();
+        changedAssets = new ConcurrentSkipListSet<>();
+        previousCopies = new TreeSet<>();
+        copies = new ConcurrentSkipListSet<>();
+        deletedCopies = new ConcurrentSkipListSet<>();
+        this.historyPath = historyPath;
+        hashToDate = new ConcurrentSkipListMap<>();
+        if (Files.exists(historyPath)) {
+            for (String line : Files.readAllLines(historyPath,
+                    StandardCharsets.UTF_8)) {
+                String[] split = line.split("\t", 2);
+                if (split.length == 2) {
+                    hashToDate.put(split[0], split[1]);
+                }
+            }
+        }
+        if (Files.exists(path)) {
+            for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+                String[] split = line.split("\t", 4);
+                if (split.length == 4) {
+                    previous.put(split[3], new Entry(split[0],
+                            Long.parseLong(split[1]), Long.parseLong(split[2])));
+                } else if (split.length == 2 && split[0].equals(COPY)) {
+                    previousCopies.add(split[1]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return A new MessageDigest for {@link #ALGORITHM}.
+     */
+    public static MessageDigest getDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * @param bytes The bytes to convert.
+     * @return bytes as a lower case hexadecimal String.
+     */
+    public static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16));
+            sb.append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param file The file to hash.
+     * @return The hash of the content of file.
+     * @throws IOException If encountered.
+     */
+    public static String hash(Path file) throws IOException {
+        MessageDigest md = getDigest();
+        try (InputStream is = new DigestInputStream(Files.newInputStream(file),
+                md)) {
+            is.transferTo(OutputStream.nullOutputStream());
+        }
+        return toHex(md.digest());
+    }
+
+    /**
+     * @param file The file.
+     * @return The path of file relative to {@link #dir} as used for keys.
+     */
+    public String getKey(Path file) {
+        return dir.relativize(file.toAbsolutePath()).toString()
+                .replace('\\', '/');
+    }
+
+    /**
+     * @param file The file.
+     * @param hash The hash of the content for file.
+     * @return true if the previous build recorded the same hash for file and
+     * file still exists.
+     */
+    public boolean isUnchanged(Path file, String hash) {
+        Entry e = previous.get(getKey(file));
+        return e != null && e.hash.equals(hash) && Files.exists(file);
+    }
+
+    /**
+     * Records that the file for a page was not written as its content is
+     * unchanged, or as it was not built. If there is no previous entry for
+     * the file, then there is no entry for it in this build.
+     *
+     * @param file The file.
+     */
+    public void addUnchanged(Path file) {
+        String key = getKey(file);
+        Entry e = previous.get(key);
+        if (e != null) {
+            current.put(key, e);
+        }
+        unchanged.add(key);
+    }
+
+    /**
+     * Records that the file for a page was written.
+     *
+     * @param file The file.
+     * @param hash The hash of the content for file.
+     * @throws IOException If encountered.
+     */
+    public void addWritten(Path file, String hash) throws IOException {
+        String key = getKey(file);
+        current.put(key, new Entry(hash, Files.size(file),
+                Files.getLastModifiedTime(file).toMillis()));
+        written.add(key);
+    }
+
+    /**
+     * Records all the files in assetDir. If the size and last modified time of
+     * a file are as previously recorded, then the previous hash is used rather
+     * than reading the file.
+     *
+     * @param assetDir The directory of asset files.
+     * @throws IOException If encountered.
+     */
+    public void addAssets(Path assetDir) throws IOException {
+        if (!Files.isDirectory(assetDir)) {
+            return;
+        }
+        List<Path> files;
+        try (Stream<Path> s = Files.walk(assetDir)) {
+            files = s.filter(Files::isRegularFile)
+                    .filter(f -> !f.toString().endsWith(Compressor.SUFFIX))
+                    .sorted().toList();
+        }
+        for (Path file : files) {
+            String key = getKey(file);
+            long size = Files.size(file);
+            long lastModified = Files.getLastModifiedTime(file).toMillis();
+            Entry e = previous.get(key);
+            if (e != null && e.size == size && e.lastModified == lastModified) {
+                current.put(key, e);
+            } else {
+                String hash = hash(file);
+                current.put(key, new Entry(hash, size, lastModified));
+                if (e == null || !e.hash.equals(hash)) {
+                    changedAssets.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Records a fingerprinted copy written or referred to in this build.
+     *
+     * @param copy The copy.
+     */
+    public void addCopy(Path copy) {
+        copies.add(getKey(copy));
+    }
+
+    /**
+     * Records the fingerprinted copies of the previous build for this build.
+     * This is for when only some pages are written, as the pages not written
+     * may still refer to them.
+     */
+    public void keepCopies() {
+        copies.addAll(previousCopies);
+    }
+
+    /**
+     * Deletes the fingerprinted copies recorded in the previous build that
+     * are not recorded for this build (see {@link #addCopy(Path)}) along with
+     * any compressed siblings of them.
+     *
+     * @throws IOException If encountered.
+     */
+    public void deleteStaleCopies() throws IOException {
+        for (String key : previousCopies) {
+            if (!copies.contains(key)) {
+                Path file = getFile(key);
+                Files.deleteIfExists(Paths.get(file.toString()
+                        + Compressor.SUFFIX));
+                if (Files.deleteIfExists(file)) {
+                    deletedCopies.add(key);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The paths of the files recorded in this build relative to
+     * {@link #dir}.
+     */
+    public Set<String> getKeys() {
+        return current.keySet();
+    }
+
+    /**
+     * @param key The path of a file relative to {@link #dir}.
+     * @return The file.
+     */
+    public Path getFile(String key) {
+        return Paths.get(dir.toString(), key);
+    }
+
+    /**
+     * @param key The path of a file relative to {@link #dir}.
+     * @return true if the file was written in this build or is an asset that
+     * is new or has changed since the last build.
+     */
+    public boolean isChanged(String key) {
+        return written.contains(key) || changedAssets.contains(key);
+    }
+
+    /**
+     * @param hash The hash of the content of a page.
+     * @param today The date to record if hash is new.
+     * @return The date recorded for hash. If there is none, then today is
+     * recorded and returned.
+     */
+    public String getDate(String hash, LocalDate today) {
+        return hashToDate.computeIfAbsent(hash, k -> today.toString());
+    }
+
+    /**
+     * @return A map of the paths of the pages written in this build to hashes
+     * of the bytes of the files.
+     * @throws IOException If encountered.
+     */
+    public TreeMap<String, String> hashWritten() throws IOException {
+        TreeMap<String, String> r = new TreeMap<>();
+        for (String key : written) {
+            r.put(key, hash(Paths.get(dir.toString(), key)));
+        }
+        return r;
+    }
+
+    /**
+     * @return The paths of entries previously recorded that are not recorded
+     * in this build.
+     */
+    public List<String> getRemoved() {
+        List<String> r = new ArrayList<>();
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key)) {
+                r.add(key);
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Writes the manifest file.
+     *
+     * @throws IOException If encountered.
+     */
+    public void write() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (var x : current.entrySet()) {
+            Entry e = x.getValue();
+            sb.append(e.hash).append("\t").append(e.size).append("\t")
+                    .append(e.lastModified).append("\t").append(x.getKey())
+                    .append("\n");
+        }
+        for (String key : copies) {
+            sb.append(COPY).append("\t").append(key).append("\n");
+        }
+        Files.writeString(path, sb.toString(), StandardCharsets.UTF_8);
+        if (!hashToDate.isEmpty()) {
+            sb = new StringBuilder();
+            for (var x : hashToDate.entrySet()) {
+                sb.append(x.getKey()).append("\t").append(x.getValue())
+                        .append("\n");
+            }
+            Files.createDirectories(historyPath.toAbsolutePath().getParent());
+            Files.writeString(historyPath, sb.toString(),
+                    StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * @return A report of what was written and what changed.
+     */
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(written.size()).append(" pages written, ")
+                .append(unchanged.size()).append(" pages unchanged, ")
+                .append(changedAssets.size()).append(" assets changed.");
+        for (String key : written) {
+            sb.append("\nWritten: ").append(key);
+        }
+        for (String key : changedAssets) {
+            sb.append("\nChanged: ").append(key);
+        }
+        for (String key : getRemoved()) {
+            sb.append("\nRemoved: ").append(key);
+        }
+        for (String key : deletedCopies) {
+            sb.append("\nDeleted: ").append(key);
+        }
+        return sb.toString();
+    }
+}
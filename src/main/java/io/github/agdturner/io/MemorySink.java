@@ -0,0 +1,154 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * A {@link Sink} that holds what is written in memory. This is for building
+ * without using the disk, for example for testing, previewing and
+ * benchmarking. What is held can be written to the file system with
+ * {@link #write()}.
+ *
+ * @author Andy Turner
+ */
+public class MemorySink extends Sink {
+
+    /**
+     * To look up the content of a file from its normalised absolute path.
+     */
+    public final ConcurrentSkipListMap<Path, byte[]> files;
+
+    /**
+     * Create a new instance.
+     */
+    public MemorySink() {
+        files = new ConcurrentSkipListMap<>();
+    }
+
+    /**
+     * @param file The file.
+     * @return The key for file in {@link #files}.
+     */
+    protected static Path getKey(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    @Override
+    public OutputStream newOutputStream(Path file) {
+        Path key = getKey(file);
+        return new ByteArrayOutputStream() {
+            @Override
+            public void close() throws IOException {
+                files.put(key, toByteArray());
+            }
+        };
+    }
+
+    @Override
+    public boolean exists(Path file) {
+        return files.containsKey(getKey(file));
+    }
+
+    @Override
+    public long size(Path file) throws IOException {
+        return getBytes(file).length;
+    }
+
+    @Override
+    public void move(Path source, Path target) throws IOException {
+        byte[] b = files.remove(getKey(source));
+        if (b == null) {
+            throw new NoSuchFileException(source.toString());
+        }
+        files.put(getKey(target), b);
+    }
+
+    @Override
+    public void delete(Path file) throws IOException {
+        if (files.remove(getKey(file)) == null) {
+            throw new NoSuchFileException(file.toString());
+        }
+    }
+
+    /**
+     * @param file The file.
+     * @return The content of file.
+     * @throws IOException If file does not exist.
+     */
+    public byte[] getBytes(Path file) throws IOException {
+        byte[] r = files.get(getKey(file));
+        if (r == null) {
+            throw new NoSuchFileException(file.toString());
+        }
+        return r;
+    }
+
+    /**
+     * @param file The file.
+     * @return The content of file decoded as UTF-8.
+     * @throws IOException If file does not exist.
+     */
+    public String getString(Path file) throws IOException {
+        return new String(getBytes(file), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param dir The directory.
+     * @return The files and directories in dir.
+     */
+    public TreeSet<Path> list(Path dir) {
+        Path d = getKey(dir);
+        TreeSet<Path> r = new TreeSet<>();
+        for (Path file : files.keySet()) {
+            if (file.startsWith(d) && !file.equals(d)) {
+                r.add(d.resolve(file.getName(d.getNameCount())));
+            }
+        }
+        return r;
+    }
+
+    /**
+     * @return The total size of the files in bytes.
+     */
+    public long size() {
+        long r = 0;
+        for (byte[] b : files.values()) {
+            r += b.length;
+        }
+        return r;
+    }
+
+    /**
+     * Writes all the files to the file system.
+     *
+     * @throws IOException If encountered.
+     */
+    public void write() throws IOException {
+        for (var x : files.entrySet()) {
+            Files.createDirectories(x.getKey().getParent());
+            Files.write(x.getKey(), x.getValue());
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * A Writer that minifies HTML as it is written to another Writer. Each run of
+ * whitespace outside of tags is replaced with a single space, whitespace
+ * within tags outside of attribute values is treated similarly, and comments
+ * are removed. The content of the elements in {@link #PRESERVED} is written
+ * exactly. The content of the elements in {@link #RAW_TEXT} is not HTML, so
+ * in these only the end tag is looked for. No document model is built: the HTML is processed a character at
+ * a time.
+ *
+ * @author Andy Turner
+ */
+public class Minifier extends Writer {
+
+    /**
+     * The names of the elements the content of which is written exactly.
+     */
+    public static final Set<String> PRESERVED = Set.of("pre", "code",
+            "textarea", "script", "style");
+
+    /**
+     * The names of the preserved elements the content of which is text rather
+     * than HTML, so a less than sign in them only starts the end tag.
+     */
+    public static final Set<String> RAW_TEXT = Set.of("textarea", "script",
+            "style");
+
+    /**
+     * The Writer written to.
+     */
+    protected final Writer out;
+
+    /**
+     * The number of characters written to this.
+     */
+    protected long countIn;
+
+    /**
+     * The number of characters written to {@link #out}.
+     */
+    protected long countOut;
+
+    /**
+     * For storing a tag or comment until it is complete.
+     */
+    private final StringBuilder tag;
+
+    /**
+     * The quote character of the attribute value being read in {@link #tag},
+     * or 0 if not in an attribute value.
+     */
+    private char quote;
+
+    /**
+     * True if whitespace has been read and not yet written.
+     */
+    private boolean space;
+
+    /**
+     * True until something other than whitespace has been written.
+     */
+    private boolean start;
+
+    /**
+     * The name of the preserved element being written, or null.
+     */
+    private String preserved;
+
+    /**
+     * The number of preserved elements named {@link #preserved} that are
+     * open.
+     */
+    private int depth;
+
+    /**
+     * Create a new instance.
+     *
+     * @param out What {@link #out} is set to.
+     */
+    public Minifier(Writer out) {
+        this.out = out;
+        tag = new StringBuilder();
+        start = true;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        countIn += len;
+        for (int i = off; i < off + len; i++) {
+            write(cbuf[i]);
+        }
+    }
+
+    /**
+     * Processes a character.
+     *
+     * @param c The character.
+     * @throws IOException If encountered.
+     */
+    private void write(char c) throws IOException {
+        if (!tag.isEmpty()) {
+            addToTag(c);
+        } else if (c == '<') {
+            tag.append(c);
+        } else if (preserved != null) {
+            emit(c);
+        } else if (Character.isWhitespace(c)) {
+            space = !start;
+        } else {
+            emitSpace();
+            emit(c);
+            start = false;
+        }
+    }
+
+    /**
+     * Adds c to {@link #tag} and handles the tag or comment if it is complete.
+     *
+     * @param c The character.
+     * @throws IOException If encountered.
+     */
+    private void addToTag(char c) throws IOException {
+        if (preserved != null && RAW_TEXT.contains(preserved)) {
+            addToRawTextTag(c);
+            return;
+        }
+        if (tag.length() == 1 && !(Character.isLetter(c) || c == '/'
+                || c == '!' || c == '?')) {
+            // Not a tag, for example a less than sign in text.
+            tag.setLength(0);
+            if (preserved == null) {
+                emitSpace();
+                start = false;
+            }
+            emit('<');
+            write(c);
+            return;
+        }
+        if (tag.length() >= 4 && tag.charAt(1) == '!' && tag.charAt(2) == '-'
+                && tag.charAt(3) == '-') {
+            // A comment
+            tag.append(c);
+            int n = tag.length();
+            if (c == '>' && n >= 7 && tag.charAt(n - 2) == '-'
+                    && tag.charAt(n - 3) == '-') {
+                if (preserved != null) {
+                    emit(tag);
+                }
+                tag.setLength(0);
+            }
+            return;
+        }
+        if (quote != 0) {
+            tag.append(c);
+            if (c == quote) {
+                quote = 0;
+            }
+        } else if (c == '"' || c == '\'') {
+            tag.append(c);
+            quote = c;
+        } else if (Character.isWhitespace(c)) {
+            if (preserved != null) {
+                tag.append(c);
+            } else if (tag.charAt(tag.length() - 1) != ' ') {
+                tag.append(' ');
+            }
+        } else if (c == '>') {
+            if (preserved == null && tag.charAt(tag.length() - 1) == ' ') {
+                tag.setLength(tag.length() - 1);
+            }
+            tag.append(c);
+            endTag();
+        } else {
+            tag.append(c);
+        }
+    }
+
+    /**
+     * Adds c to {@link #tag} in an element in {@link #RAW_TEXT} if it may be
+     * part of the end tag of the element and handles the end tag if it is
+     * complete. Otherwise what is in {@link #tag} is written as text and c is
+     * processed again.
+     *
+     * @param c The character.
+     * @throws IOException If encountered.
+     */
+    private void addToRawTextTag(char c) throws IOException {
+        String end = "</" + preserved;
+        int n = tag.length();
+        if (n < end.length()) {
+            if (Character.toLowerCase(c) == end.charAt(n)) {
+                tag.append(c);
+                return;
+            }
+        } else if (n > end.length() || c == '>' || c == '/'
+                || Character.isWhitespace(c)) {
+            tag.append(c);
+            if (c == '>') {
+                endTag();
+            }
+            return;
+        }
+        // Not the end tag, for example a less than sign in a script.
+        emit(tag);
+        tag.setLength(0);
+        write(c);
+    }
+
+    /**
+     * Handles a complete tag in {@link #tag}.
+     *
+     * @throws IOException If encountered.
+     */
+    private void endTag() throws IOException {
+        boolean close = tag.charAt(1) == '/';
+        int st = close ? 2 : 1;
+        int et = st;
+        while (et < tag.length() && Character.isLetterOrDigit(tag.charAt(et))) {
+            et++;
+        }
+        String name = tag.substring(st, et).toLowerCase(Locale.ROOT);
+        if (preserved == null) {
+            emitSpace();
+            start = false;
+            emit(tag);
+            if (!close && PRESERVED.contains(name)) {
+                preserved = name;
+                depth = 1;
+            }
+        } else {
+            emit(tag);
+            if (name.equals(preserved)) {
+                depth += close ? -1 : 1;
+                if (depth == 0) {
+                    preserved = null;
+                }
+            }
+        }
+        tag.setLength(0);
+    }
+
+    /**
+     * Writes a space if whitespace has been read and not written.
+     *
+     * @throws IOException If encountered.
+     */
+    private void emitSpace() throws IOException {
+        if (space) {
+            emit(' ');
+            space = false;
+        }
+    }
+
+    /**
+     * @param c The character to write to {@link #out}.
+     * @throws IOException If encountered.
+     */
+    private void emit(char c) throws IOException {
+        out.write(c);
+        countOut++;
+    }
+
+    /**
+     * @param s The characters to write to {@link #out}.
+     * @throws IOException If encountered.
+     */
+    private void emit(CharSequence s) throws IOException {
+        out.append(s);
+        countOut += s.length();
+    }
+
+    @Override
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    /**
+     * Writes anything incomplete as it is and closes {@link #out}.
+     *
+     * @throws IOException If encountered.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!tag.isEmpty()) {
+            emit(tag);
+            tag.setLength(0);
+        }
+        emitSpace();
+        out.close();
+    }
+
+    /**
+     * @return The number of characters written to this.
+     */
+    public long getCountIn() {
+        return countIn;
+    }
+
+    /**
+     * @return The number of characters written to the underlying Writer.
+     */
+    public long getCountOut() {
+        return countOut;
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * A POJO for measurements of building a page. Times are in nanoseconds.
+ * Allocation is measured with the allocation counter of the thread building
+ * the page if the JVM supports this, otherwise it is 0.
+ *
+ * @author Andy Turner
+ */
+public class PageMetrics {
+
+    /**
+     * For measuring allocation or null if this is not supported.
+     */
+    private static final com.sun.management.ThreadMXBean THREADS;
+
+    static {
+        ThreadMXBean t = ManagementFactory.getThreadMXBean();
+        if (t instanceof com.sun.management.ThreadMXBean s
+                && s.isThreadAllocatedMemorySupported()) {
+            s.setThreadAllocatedMemoryEnabled(true);
+            THREADS = s;
+        } else {
+            THREADS = null;
+        }
+    }
+
+    /**
+     * The name of the page.
+     */
+    public final String name;
+
+    /**
+     * The path of the page file.
+     */
+    public String file;
+
+    /**
+     * If true, the page file was written in the build. It is false if the
+     * page file was not written as it was unchanged.
+     */
+    public boolean written;
+
+    /**
+     * If true, the main content was from a {@link RenderCache} or a shared
+     * render of variants of the site rather than generated in the build.
+     */
+    public boolean cached;
+
+    /**
+     * The time spent generating the main content.
+     */
+    public long mainContentNanos;
+
+    /**
+     * The time spent generating the contents.
+     */
+    public long contentsNanos;
+
+    /**
+     * The time spent rendering the page other than the contents and writing
+     * the page file.
+     */
+    public long writeNanos;
+
+    /**
+     * The size of the page file in bytes.
+     */
+    public long bytes;
+
+    /**
+     * The number of sections.
+     */
+    public int sections;
+
+    /**
+     * The number of index references.
+     */
+    public long references;
+
+    /**
+     * The bytes allocated building the page.
+     */
+    public long allocatedBytes;
+
+    /**
+     * Create a new instance.
+     *
+     * @param name What {@link #name} is set to.
+     */
+    public PageMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return The total time.
+     */
+    public long getNanos() {
+        return mainContentNanos + contentsNanos + writeNanos;
+    }
+
+    /**
+     * Adds the measurements of m to this.
+     *
+     * @param m The measurements to add.
+     */
+    public void add(PageMetrics m) {
+        mainContentNanos += m.mainContentNanos;
+        contentsNanos += m.contentsNanos;
+        writeNanos += m.writeNanos;
+        bytes += m.bytes;
+        sections += m.sections;
+        references += m.references;
+        allocatedBytes += m.allocatedBytes;
+    }
+
+    /**
+     * @return The number of bytes allocated by the current thread or 0 if
+     * this cannot be measured.
+     */
+    public static long getAllocatedBytes() {
+        return THREADS == null ? 0L : THREADS.getCurrentThreadAllocatedBytes();
+    }
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * A persistent cache of the main content of pages generated in the layout
+ * pass. Each entry is stored in a file named after the page and has a key
+ * which is a hash of everything the main content is generated from: the
+ * bytecode of the page class and its superclasses, the parameters of the
+ * site and page and the version of the term dictionary. If the key of a page
+ * is as stored, then the main content is read from the entry and the
+ * sections and uses of index terms recorded with it are added to the site
+ * rather than generating the main content again.
+ *
+ * Each entry file starts with the key. Then there is a line for each section
+ * in order and a line for each use of a term in a section, with fields
+ * separated by tabs as for {@link DependencyGraph}:
+ * <ul>
+ * <li>{@code S <level> <inPageID> <name>} A section.</li>
+ * <li>{@code T <inPageID> <term>} A use of an index term in a section.</li>
+ * </ul>
+ * Then there is a line {@code M} and the main content follows.
+ *
+ * @author Andy Turner
+ */
+public class RenderCache {
+
+    /**
+     * A POJO for a section of a page.
+     */
+    public static class Section {
+
+        /**
+         * The heading level.
+         */
+        public final int level;
+
+        /**
+         * The in page section ID for linking.
+         */
+        public final String inPageID;
+
+        /**
+         * The name of the section.
+         */
+        public final String name;
+
+        /**
+         * Create a new instance.
+         *
+         * @param level What {@link #level} is set to.
+         * @param inPageID What {@link #inPageID} is set to.
+         * @param name What {@link #name} is set to.
+         */
+        public Section(int level, String inPageID, String name) {
+            this.level = level;
+            this.inPageID = inPageID;
+            this.name = name;
+        }
+    }
+
+    /**
+     * A POJO for a cache entry.
+     */
+    public static class Entry {
+
+        /**
+         * The key.
+         */
+        public final String key;
+
+        /**
+         * The sections in order.
+         */
+        public final List<Section> sections;
+
+        /**
+         * To look up the names of the terms used in a section from the in
+         * page section ID.
+         */
+        public final TreeMap<String, TreeSet<String>> terms;
+
+        /**
+         * The main content.
+         */
+        public String mainContent;
+
+        /**
+         * Create a new instance.
+         *
+         * @param key What {@link #key} is set to.
+         */
+        public Entry(String key) {
+            this.key = key;
+            sections = new ArrayList<>();
+            terms = new TreeMap<>();
+        }
+
+        /**
+         * @param inPageID The in page section ID.
+         * @param term The name of a term used in the section.
+         */
+        public void addTerm(String inPageID, String term) {
+            terms.computeIfAbsent(inPageID, k -> new TreeSet<>()).add(term);
+        }
+    }
+
+    /**
+     * The directory of entry files.
+     */
+    public final Path dir;
+
+    /**
+     * To look up the hash of the bytecode of a class and its superclasses.
+     */
+    protected final ConcurrentHashMap<Class<?>, String> classHashes;
+
+    /**
+     * The names of the pages for which an entry was used.
+     */
+    public final ConcurrentSkipListSet<String> hits;
+
+    /**
+     * The names of the pages for which an entry was stored.
+     */
+    public final ConcurrentSkipListSet<String> misses;
+
+    /**
+     * Create a new instance.
+     *
+     * @param dir What {@link #dir} is set to.
+     */
+    public RenderCache(Path dir) {
+        this.dir = dir;
+        classHashes = new ConcurrentHashMap<>();
+        hits = new ConcurrentSkipListSet<>();
+        misses = new ConcurrentSkipListSet<>();
+    }
+
+    /**
+     * @param c The class.
+     * @return A hash of the bytecode of c and of its superclasses or null if
+     * the bytecode of any of these cannot be read.
+     */
+    public String getClassHash(Class<?> c) {
+        String r = classHashes.get(c);
+        if (r == null) {
+            MessageDigest md = Manifest.getDigest();
+            for (Class<?> s = c; s != null && s != Object.class;
+                    s = s.getSuperclass()) {
+                String name = "/" + s.getName().replace('.', '/') + ".class";
+                try (InputStream is = s.getResourceAsStream(name)) {
+                    if (is == null) {
+                        return null;
+                    }
+                    md.update(is.readAllBytes());
+                } catch (IOException ex) {
+                    return null;
+                }
+            }
+            r = Manifest.toHex(md.digest());
+            classHashes.putIfAbsent(c, r);
+        }
+        return r;
+    }
+
+    /**
+     * @param parts The parts to hash.
+     * @return A key which is a hash of parts.
+     */
+    public static String getKey(List<String> parts) {
+        MessageDigest md = Manifest.getDigest();
+        for (String part : parts) {
+            md.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+            md.update((byte) 0);
+        }
+        return Manifest.toHex(md.digest());
+    }
+
+    /**
+     * @param name The name of a page.
+     * @return The path of the entry file for the page.
+     */
+    public Path getPath(String name) {
+        return Paths.get(dir.toString(), name + ".txt");
+    }
+
+    /**
+     * @param name The name of a page.
+     * @param key The key.
+     * @return The entry for the page with name if it has key, otherwise null.
+     */
+    public Entry get(String name, String key) {
+        Path file = getPath(name);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        String s;
+        try {
+            s = Files.readString(file, StandardCharsets.UTF_8);
+        } catch (IOException ex) {
+            return null;
+        }
+        int i = s.indexOf('\n');
+        if (i < 0 || !s.substring(0, i).equals(key)) {
+            return null;
+        }
+        Entry r = new Entry(key);
+        while (true) {
+            int st = i + 1;
+            i = s.indexOf('\n', st);
+            if (i < 0) {
+                return null;
+            }
+            String[] f = s.substring(st, i).split("\t", -1);
+            switch (f[0]) {
+                case "S" ->
+                    r.sections.add(new Section(Integer.parseInt(f[1]),
+                            DependencyGraph.unescape(f[2]),
+                            DependencyGraph.unescape(f[3])));
+                case "T" ->
+                    r.addTerm(DependencyGraph.unescape(f[1]),
+                            DependencyGraph.unescape(f[2]));
+                case "M" -> {
+                    r.mainContent = s.substring(i + 1);
+                    hits.add(name);
+                    return r;
+                }
+                default -> {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Stores e as the entry for the page with name. The file is written to a
+     * temporary file first and then moved so that an entry is never read part
+     * written.
+     *
+     * @param name The name of a page.
+     * @param e The entry.
+     * @throws IOException If encountered.
+     */
+    public void put(String name, Entry e) throws IOException {
+        StringBuilder sb = new StringBuilder(e.mainContent.length() + 1024);
+        sb.append(e.key).append("\n");
+        for (Section x : e.sections) {
+            sb.append("S\t").append(x.level).append("\t")
+                    .append(DependencyGraph.escape(x.inPageID)).append("\t")
+                    .append(DependencyGraph.escape(x.name)).append("\n");
+        }
+        for (var x : e.terms.entrySet()) {
+            for (String term : x.getValue()) {
+                sb.append("T\t").append(DependencyGraph.escape(x.getKey()))
+                        .append("\t").append(DependencyGraph.escape(term))
+                        .append("\n");
+            }
+        }
+        sb.append("M\n").append(e.mainContent);
+        Files.createDirectories(dir);
+        Path file = getPath(name);
+        Path tmp = Paths.get(file.toString() + ".tmp");
+        Files.writeString(tmp, sb.toString(), StandardCharsets.UTF_8);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+        misses.add(name);
+    }
+
+    /**
+     * @return A report of the pages for which an entry was used and stored.
+     * A page for which an entry was stored and then used, as when a
+     * page is laid out more than once, is only reported as stored.
+     */
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        TreeSet<String> cached = new TreeSet<>(hits);
+        cached.removeAll(misses);
+        sb.append(cached.size()).append(" pages from the render cache, ")
+                .append(misses.size()).append(" pages rendered and cached.");
+        for (String name : misses) {
+            sb.append("\nRendered: ").append(name);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Where the output of a build is written. Paths are those the output would
+ * have in the file system. Parent directories are created as needed.
+ *
+ * @author Andy Turner
+ */
+public abstract class Sink {
+
+    /**
+     * @param file The file to write.
+     * @return An OutputStream for writing file replacing any existing file.
+     * @throws IOException If encountered.
+     */
+    public abstract OutputStream newOutputStream(Path file) throws IOException;
+
+    /**
+     * @param file The file.
+     * @return true if file exists.
+     */
+    public abstract boolean exists(Path file);
+
+    /**
+     * @param file The file.
+     * @return The size of file in bytes.
+     * @throws IOException If encountered.
+     */
+    public abstract long size(Path file) throws IOException;
+
+    /**
+     * Moves source to target replacing any existing target.
+     *
+     * @param source The file to move.
+     * @param target The path to move to.
+     * @throws IOException If encountered.
+     */
+    public abstract void move(Path source, Path target) throws IOException;
+
+    /**
+     * @param file The file to delete.
+     * @throws IOException If encountered.
+     */
+    public abstract void delete(Path file) throws IOException;
+
+    /**
+     * Copies the file source in the file system to target.
+     *
+     * @param source The file to copy.
+     * @param target The file to write.
+     * @throws IOException If encountered.
+     */
+    public void copy(Path source, Path target) throws IOException {
+        try (InputStream is = Files.newInputStream(source);
+                OutputStream os = newOutputStream(target)) {
+            is.transferTo(os);
+        }
+    }
+
+    /**
+     * @param file The file to write.
+     * @return A buffered UTF-8 Writer for writing file.
+     * @throws IOException If encountered.
+     */
+    public Writer newWriter(Path file) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(newOutputStream(file),
+                StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Writes s to file in UTF-8.
+     *
+     * @param file The file to write.
+     * @param s The String to write.
+     * @throws IOException If encountered.
+     */
+    public void writeString(Path file, String s) throws IOException {
+        try (OutputStream os = newOutputStream(file)) {
+            os.write(s.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * An asset being hashed and copied to its fingerprinted copy.
+ *
+ * @author Andy Turner
+ */
+@Name("io.github.agdturner.AssetCopy")
+@Label("Asset Copy")
+@Description("An asset being hashed and copied to its fingerprinted copy.")
+public class AssetCopyEvent extends BuildEvent {
+}
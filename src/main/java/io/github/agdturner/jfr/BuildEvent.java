@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+
+/**
+ * The base of the JDK Flight Recorder events for the phases of a build. These
+ * show the phases in the recording timeline. An event is created and begun
+ * before a phase, and committed after it if {@link #shouldCommit()} is true.
+ * The fields are only set if it is, so when recording is off the cost is
+ * negligible.
+ *
+ * @author Andy Turner
+ */
+@Category({"agdturner", "Build"})
+public abstract class BuildEvent extends Event {
+
+    /**
+     * The code of the course.
+     */
+    @Label("Course Code")
+    public String courseCode;
+
+    /**
+     * The label of the page. For an asset copy event this is the name of the
+     * asset file.
+     */
+    @Label("Page Label")
+    public String pageLabel;
+
+    /**
+     * The number of bytes. For a render or contents event this is the number
+     * of characters generated.
+     */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /**
+     * The number of sections.
+     */
+    @Label("Section Count")
+    public int sections;
+
+    /**
+     * Sets the fields.
+     *
+     * @param courseCode What {@link #courseCode} is set to.
+     * @param pageLabel What {@link #pageLabel} is set to.
+     * @param bytes What {@link #bytes} is set to.
+     * @param sections What {@link #sections} is set to.
+     */
+    public void set(String courseCode, String pageLabel, long bytes,
+            int sections) {
+        this.courseCode = courseCode;
+        this.pageLabel = pageLabel;
+        this.bytes = bytes;
+        this.sections = sections;
+    }
+}
@@ -20,6 +20,7 @@ import io.github.agdturner.core.Environment;
 import io.github.agdturner.core.Page;
 import io.github.agdturner.core.PageID;
 import io.github.agdturner.core.Site;
+import io.github.agdturner.io.Sink;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -49,7 +50,7 @@ public class MyHome extends Page {
      */
     public MyHome(Site site, String title, PageID id, Path path) {
         super(site, "index", title, "Index", id, path);
-        if (!Files.exists(path)) {
+        if (site.sink == null && !Files.exists(path)) {
             try {
                 Files.createDirectories(path);
             } catch (IOException ex) {
@@ -95,22 +96,41 @@ public class MyHome extends Page {
     }
 
     /**
-     * Main method
+     * Writes the home page.
      *
-     * @param args
+     * @param dir The directory in which the website directory is.
      */
-    public static void main(String[] args) {
+    public static void write(Path dir) {
+        write(dir, null);
+    }
+
+    /**
+     * Writes the home page. If sink is not null, then the page and the files
+     * in the asset directories of the site (see {@link MySite#getAssetDirs()})
+     * are written to sink rather than to files.
+     *
+     * @param dir The directory in which the website directory is.
+     * @param sink What {@link Site#sink} is set to.
+     */
+    public static void write(Path dir, Sink sink) {
         String name = "Andy Turner " + Environment.AGDTURNER_GITHUB_IO + " Home Page";
         PageID id = new PageID(0);
         boolean localPaths = true;
-        MySite site = new MySite(
-                new Environment(Environment.AGDTURNER_GITHUB_IO, DIR),
-                localPaths);
-        Path dir = Paths.get("C:", "Users", "geoagdt", "src", "agdt");
         String domain = Environment.AGDTURNER_GITHUB_IO;
         Path local = Paths.get(dir.toString(), domain);
-        //Environment env = new Environment(domain, dir);
+        MySite site = new MySite(new Environment(domain, dir), localPaths);
+        site.sink = sink;
         MyHome myHome = new MyHome(site, name, id, local);
+        if (sink != null) {
+            try {
+                sink.writeString(Paths.get(local.toString(), "index.html"),
+                        site.render(myHome));
+            } catch (IOException ex) {
+                Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
+            }
+            site.writeAssets();
+            return;
+        }
         myHome.write();
         // Write page
         try {
@@ -119,12 +139,25 @@ public class MyHome extends Page {
         } catch (IOException ex) {
             Logger.getLogger(Site.class.getName()).log(Level.SEVERE, null, ex);
         }
-        
     }
 
+    /**
+     * Main method
+     *
+     * @param args
+     */
+    public static void main(String[] args) {
+        write(DIR.getParent());
+    }
+
+    /**
+     * @param linkClass The link class.
+     * @param addPrevious Ignored.
+     * @return An empty String as there are no other pages to link to.
+     */
     @Override
     public String getLinks(String linkClass, boolean addPrevious) {
-        throw new UnsupportedOperationException("Not supported yet."); // Generated from nbfs://nbhost/SystemFileSystem/Templates/Classes/Code/GeneratedMethodBody
+        return "";
     }
 
     @Override
@@ -0,0 +1,408 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.process;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.agdturner.core.PageFactory;
+import io.github.agdturner.core.Site;
+import io.github.agdturner.io.ArchiveSink;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A local development server for previewing a site. The site is created and
+ * laid out once and held in memory. Then a page is rendered each time it is
+ * requested and nothing is written to file. If {@link Site#lazy} is true,
+ * then the content pages are not held, but constructed each time they are
+ * requested and released once rendered. Other files, such as images,
+ * scripts and style sheets, are served from a resource directory, by default
+ * the website directory.
+ *
+ * URL paths are relative to the website directory. As links to the index are
+ * to absolute file paths, URL paths that are absolute paths in the website
+ * directory are also served.
+ *
+ * Alternatively, the files in a zip archive, such as one written by an
+ * {@link ArchiveSink}, can be served as they are, without a site. Tar
+ * archives cannot be served, as the JDK cannot open them as a file system.
+ *
+ * Options are:
+ * <ul>
+ * <li>{@code -d <dir>} The directory in which the website directory is.</li>
+ * <li>{@code -r <dir>} The resource directory.</li>
+ * <li>{@code -p <port>} The port (default {@link #PORT}).</li>
+ * <li>{@code -l} Set {@link Site#lazy} to true.</li>
+ * <li>{@code -a <archive>} Serve the files in a zip archive. The name must
+ * end with {@code .zip}: tar archives, including those written by
+ * {@link Process} {@code -a}, are rejected, so extract them or write a zip
+ * archive instead.</li>
+ * </ul>
+ * The name of the site is given as an argument, by default CPP0.
+ *
+ * @author Andy Turner
+ */
+public class DevServer {
+
+    /**
+     * The default port.
+     */
+    public static final int PORT = 8000;
+
+    /**
+     * Content types by file extension.
+     */
+    public static final Map<String, String> CONTENT_TYPES = Map.ofEntries(
+            Map.entry("html", "text/html; charset=utf-8"),
+            Map.entry("css", "text/css; charset=utf-8"),
+            Map.entry("js", "text/javascript; charset=utf-8"),
+            Map.entry("json", "application/json"),
+            Map.entry("svg", "image/svg+xml"),
+            Map.entry("png", "image/png"),
+            Map.entry("jpg", "image/jpeg"),
+            Map.entry("jpeg", "image/jpeg"),
+            Map.entry("gif", "image/gif"),
+            Map.entry("ico", "image/x-icon"),
+            Map.entry("pdf", "application/pdf"),
+            Map.entry("txt", "text/plain; charset=utf-8"),
+            Map.entry("py", "text/plain; charset=utf-8"),
+            Map.entry("java", "text/plain; charset=utf-8"),
+            Map.entry("cpp", "text/plain; charset=utf-8"),
+            Map.entry("h", "text/plain; charset=utf-8"),
+            Map.entry("csv", "text/plain; charset=utf-8"),
+            Map.entry("md", "text/plain; charset=utf-8"));
+
+    /**
+     * The site, or null if serving an archive.
+     */
+    public final Site site;
+
+    /**
+     * The website directory.
+     */
+    public final Path root;
+
+    /**
+     * The directory resources are served from.
+     */
+    public final Path resources;
+
+    /**
+     * Factories for the pages in write order.
+     */
+    protected final List<PageFactory> pages;
+
+    /**
+     * To look up a page from the path of its file or directory.
+     */
+    protected final HashMap<Path, PageFactory> pathToPage;
+
+    /**
+     * The file system of the archive being served, or null.
+     */
+    protected final FileSystem archive;
+
+    /**
+     * The HTTP server.
+     */
+    protected final HttpServer server;
+
+    /**
+     * Creates a new instance and lays out site.
+     *
+     * @param site What {@link #site} is set to.
+     * @param resources What {@link #resources} is set to.
+     * @param port The port.
+     * @throws IOException If encountered.
+     */
+    public DevServer(Site site, Path resources, int port) throws IOException {
+        this(site, site.env.dir.toAbsolutePath().normalize(),
+                resources.toAbsolutePath().normalize(), site.layout(), null,
+                port);
+    }
+
+    /**
+     * Creates a new instance for serving the files in a zip archive. The
+     * archive is opened as a file system, so files are read from it as they
+     * are requested and it is not extracted.
+     *
+     * @param archive The zip archive.
+     * @param port The port.
+     * @throws IOException If encountered.
+     * @throws IllegalArgumentException If the name of archive does not end
+     * with {@code .zip}.
+     */
+    public DevServer(Path archive, int port) throws IOException {
+        this(FileSystems.newFileSystem(checkZip(archive)), port);
+    }
+
+    /**
+     * @param archive The archive.
+     * @return archive.
+     * @throws IllegalArgumentException If the name of archive does not end
+     * with {@code .zip}, as only zip archives can be opened as a file system.
+     */
+    protected static Path checkZip(Path archive) {
+        if (!archive.getFileName().toString().endsWith(".zip")) {
+            throw new IllegalArgumentException("Cannot serve " + archive
+                    + ", only zip archives can be served. Extract it and "
+                    + "serve the files with -r, or write a .zip archive.");
+        }
+        return archive;
+    }
+
+    /**
+     * @param fs The file system of the archive.
+     * @param port The port.
+     * @throws IOException If encountered.
+     */
+    private DevServer(FileSystem fs, int port) throws IOException {
+        this(null, fs.getPath("/"), fs.getPath("/"), List.of(), fs, port);
+    }
+
+    /**
+     * @param site What {@link #site} is set to.
+     * @param root What {@link #root} is set to.
+     * @param resources What {@link #resources} is set to.
+     * @param pages What {@link #pages} is set to.
+     * @param archive What {@link #archive} is set to.
+     * @param port The port.
+     * @throws IOException If encountered.
+     */
+    private DevServer(Site site, Path root, Path resources,
+            List<PageFactory> pages, FileSystem archive, int port)
+            throws IOException {
+        this.site = site;
+        this.root = root;
+        this.resources = resources;
+        this.pages = pages;
+        this.archive = archive;
+        pathToPage = new HashMap<>();
+        for (PageFactory page : pages) {
+            Path dir = page.path.toAbsolutePath().normalize();
+            pathToPage.put(dir, page);
+            pathToPage.put(dir.resolve("index.html"), page);
+        }
+        server = HttpServer.create(new InetSocketAddress(
+                InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(newExecutor());
+    }
+
+    /**
+     * @return An executor that runs each task in a new virtual thread if the
+     * JVM supports these, otherwise a cached thread pool.
+     */
+    public static ExecutorService newExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod(
+                    "newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool();
+        }
+    }
+
+    /**
+     * Starts the server.
+     */
+    public void start() {
+        server.start();
+    }
+
+    /**
+     * Stops the server.
+     */
+    public void stop() {
+        server.stop(0);
+        if (archive != null) {
+            try {
+                archive.close();
+            } catch (IOException ex) {
+                Logger.getLogger(DevServer.class.getName()).log(Level.SEVERE,
+                        null, ex);
+            }
+        }
+    }
+
+    /**
+     * @return The URL path of the home page.
+     */
+    public String getHomePath() {
+        if (pages.isEmpty()) {
+            return "/";
+        }
+        return "/" + root.relativize(pages.get(0).path.toAbsolutePath()
+                .normalize().resolve("index.html")).toString()
+                .replace('\\', '/');
+    }
+
+    /**
+     * @param dir The directory.
+     * @param path The URL path.
+     * @return The file in dir for path.
+     */
+    protected Path getFile(Path dir, String path) {
+        Path r = Paths.get(path).normalize();
+        if (!r.startsWith(dir)) {
+            r = dir.resolve(path.substring(1)).normalize();
+        }
+        if (path.endsWith("/")) {
+            r = r.resolve("index.html");
+        }
+        return r;
+    }
+
+    /**
+     * Handles a request rendering a page or serving a resource file.
+     *
+     * @param exchange The exchange.
+     * @throws IOException If encountered.
+     */
+    protected void handle(HttpExchange exchange) throws IOException {
+        try {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/") && !pages.isEmpty()) {
+                exchange.getResponseHeaders().set("Location", getHomePath());
+                exchange.sendResponseHeaders(302, -1);
+                return;
+            }
+            byte[] body;
+            String type;
+            PageFactory page = pathToPage.get(getFile(root, path));
+            if (page != null) {
+                long t = System.nanoTime();
+                body = site.render(page).getBytes(StandardCharsets.UTF_8);
+                type = CONTENT_TYPES.get("html");
+                Logger.getLogger(DevServer.class.getName()).info("Rendered "
+                        + page.label + " in "
+                        + (System.nanoTime() - t) / 1_000_000L + " ms");
+            } else {
+                Path file = getFile(resources, path);
+                if (!file.startsWith(resources) || !Files.isRegularFile(file)) {
+                    exchange.sendResponseHeaders(404, -1);
+                    return;
+                }
+                body = Files.readAllBytes(file);
+                type = getContentType(file);
+            }
+            exchange.getResponseHeaders().set("Content-Type", type);
+            exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream os = exchange.getResponseBody()) {
+                    os.write(body);
+                }
+            }
+        } catch (RuntimeException ex) {
+            Logger.getLogger(DevServer.class.getName()).log(Level.SEVERE, null,
+                    ex);
+            exchange.sendResponseHeaders(500, -1);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * @param file The file.
+     * @return The content type for file.
+     * @throws IOException If encountered.
+     */
+    public static String getContentType(Path file) throws IOException {
+        String name = file.getFileName().toString();
+        int i = name.lastIndexOf('.');
+        String r = i < 0 ? null : CONTENT_TYPES.get(name.substring(i + 1));
+        if (r == null) {
+            r = Files.probeContentType(file);
+        }
+        return r == null ? "application/octet-stream" : r;
+    }
+
+    /**
+     * Main method.
+     *
+     * @param args The name of the site and any options.
+     * @throws IOException If encountered.
+     */
+    public static void main(String[] args) throws IOException {
+        Path dir = Process.DIR;
+        Path resources = null;
+        Path archive = null;
+        boolean lazy = false;
+        int port = PORT;
+        String name = "CPP0";
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-d" ->
+                    dir = Paths.get(args[++i]);
+                case "-r" ->
+                    resources = Paths.get(args[++i]);
+                case "-p" ->
+                    port = Integer.parseInt(args[++i]);
+                case "-a" ->
+                    archive = Paths.get(args[++i]);
+                case "-l" ->
+                    lazy = true;
+                default ->
+                    name = args[i];
+            }
+        }
+        if (archive != null) {
+            DevServer server = new DevServer(archive, port);
+            server.start();
+            Logger.getLogger(DevServer.class.getName()).info("Serving "
+                    + archive + " at http://localhost:" + port + "/");
+            return;
+        }
+        Function<Path, ? extends Site> factory
+                = new Process().factories.get(name);
+        if (factory == null) {
+            throw new IllegalArgumentException("Unknown site " + name);
+        }
+        long t = System.nanoTime();
+        Site site = factory.apply(dir);
+        site.lazy = lazy;
+        DevServer server = new DevServer(site, resources == null
+                ? site.env.dir : resources, port);
+        server.start();
+        Logger.getLogger(DevServer.class.getName()).info("Laid out " + name
+                + " in " + (System.nanoTime() - t) / 1_000_000L
+                + " ms, serving http://localhost:" + port
+                + server.getHomePath());
+    }
+}
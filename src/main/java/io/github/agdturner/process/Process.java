@@ -15,47 +15,332 @@
  */
 package io.github.agdturner.process;
 
+import io.github.agdturner.core.Environment;
+import io.github.agdturner.core.SharedRender;
+import io.github.agdturner.core.Site;
 import io.github.agdturner.course.coding.intro.cpp.process.CPP0;
 import io.github.agdturner.course.coding.intro.java.process.Java0;
 import io.github.agdturner.course.coding.intro.python.process.Python0;
 import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5003M;
 import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5990M;
 import io.github.agdturner.course.coding.intro.python.sog.process.GEOG5995M;
+import io.github.agdturner.io.ArchiveSink;
+import io.github.agdturner.io.Sink;
+import io.github.agdturner.jfr.CourseConstructionEvent;
 import io.github.agdturner.pages.MyHome;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * A master process to create all sites.
- * 
+ *
+ * The names of the sites to build are given as arguments and the sites are
+ * built concurrently in this JVM. Options are:
+ * <ul>
+ * <li>{@code -d <dir>} The directory in which the website directory is.</li>
+ * <li>{@code -t <n>} The number of threads used to write pages.</li>
+ * <li>{@code -a <archive>} Write the sites, including their assets, to an
+ * archive rather than to files, see {@link ArchiveSink#create(Path, Path)}.
+ * Entry names are relative to the website directory.</li>
+ * <li>{@code -v} Render the pages that variants of a course share once for
+ * all the variants being built, see {@link SharedRender}.</li>
+ * <li>{@code -c} Cache the main content of pages, see
+ * {@link Site#cache}.</li>
+ * <li>{@code -l} Release the pages of courses once they are laid out and
+ * keep their main content in files until they are written, see
+ * {@link Site#lazy}.</li>
+ * <li>{@code -r} Write a build report of each course to its build
+ * directory, see {@link Site#report}.</li>
+ * <li>{@code -b <dir>} The directory in which the build directory of each
+ * site is, see {@link Site#buildDir}. By default, this is a directory named
+ * {@code build} in the directory in which the website directory is.</li>
+ * <li>{@code --pages <a,b>} Write only the pages with these filenames and any
+ * index entries that change as a result, see
+ * {@link Site#write(Path, Collection, ExecutorService)}. A site without any
+ * of these pages is not written.</li>
+ * </ul>
+ * The name {@code all} is for all of {@link #builders}. With no names,
+ * CPP0 is built.
+ *
  * @author Andy Turner
  */
 public class Process {
-    
+
+    /**
+     * The default directory in which the website directory is.
+     */
+    public static final Path DIR = Paths.get("C:", "Users", "geoagdt", "src",
+            "agdt");
+
+    /**
+     * For looking up how to build a site by name. Each builder is given the
+     * directory in which the website directory is and an executor for
+     * writing pages.
+     */
+    public final TreeMap<String, BiConsumer<Path, ExecutorService>> builders;
+
+    /**
+     * For looking up how to create a course by name. Each factory is given
+     * the directory in which the website directory is.
+     */
+    public final TreeMap<String, Function<Path, ? extends Site>> factories;
+
+    /**
+     * If not null, then sites are written to this rather than to files.
+     */
+    public Sink sink;
+
+    /**
+     * If not null, then only the pages of courses with these filenames are
+     * written.
+     */
+    public TreeSet<String> pages;
+
+    /**
+     * What {@link Site#cache} is set to for courses.
+     */
+    public boolean cache;
+
+    /**
+     * If true, then variants of a course share a {@link SharedRender}.
+     */
+    public boolean shareVariants;
+
+    /**
+     * What {@link Site#lazy} is set to for courses.
+     */
+    public boolean lazy;
+
+    /**
+     * What {@link Site#report} is set to for courses.
+     */
+    public boolean report;
+
+    /**
+     * If not null, then {@link Site#buildDir} is set for courses to the
+     * directory named after the course in this.
+     */
+    public Path buildDir;
+
+    /**
+     * To look up the shared render for variants from the name of the class of
+     * their template and their directory.
+     */
+    protected final TreeMap<String, SharedRender> sharedRenders;
+
     /**
      * Create a new instance.
      */
-    public Process(){}
-    
+    public Process() {
+        builders = new TreeMap<>();
+        factories = new TreeMap<>();
+        sharedRenders = new TreeMap<>();
+        builders.put("MyHome", (dir, executor) -> MyHome.write(dir, sink));
+        add("GEOG5003M", GEOG5003M::create);
+        add("GEOG5990M", GEOG5990M::create);
+        add("GEOG5995M", GEOG5995M::create);
+        add("Python0", Python0::create);
+        add("Java0", Java0::create);
+        add("CPP0", CPP0::create);
+    }
+
+    /**
+     * Adds a builder for a course to {@link #builders} and factory to
+     * {@link #factories}.
+     *
+     * @param name The name.
+     * @param factory For creating the course given the directory.
+     */
+    protected final void add(String name, Function<Path, ? extends Site> factory) {
+        factories.put(name, factory);
+        builders.put(name, (dir, executor) -> {
+            CourseConstructionEvent event = new CourseConstructionEvent();
+            event.begin();
+            Site site = factory.apply(dir);
+            if (event.shouldCommit()) {
+                event.set(site.getName(), null, 0L, 0);
+                event.commit();
+            }
+            if (sink != null) {
+                site.sink = sink;
+            }
+            site.cache = cache;
+            site.lazy = lazy;
+            site.report = report;
+            if (buildDir != null) {
+                site.buildDir = Paths.get(buildDir.toString(), name);
+            }
+            if (shareVariants) {
+                site.shared = getSharedRender(site, executor);
+            }
+            if (pages == null) {
+                site.write(site.env.dir, executor);
+            } else {
+                site.write(site.env.dir, pages, executor);
+            }
+        });
+    }
+
+    /**
+     * Gets the shared render for the variants of site creating it if it has
+     * not already been created. Sites are built concurrently, so the variants
+     * of the first to get it wait for it to be created.
+     *
+     * @param site The site.
+     * @param executor The executor to lay out pages with.
+     * @return The shared render for the variants of site or null if site has
+     * no variants.
+     */
+    protected synchronized SharedRender getSharedRender(Site site,
+            ExecutorService executor) {
+        Site template = site.getVariantTemplate();
+        if (template == null) {
+            return null;
+        }
+        String key = template.getClass().getName() + " " + site.env.dir;
+        SharedRender r = sharedRenders.get(key);
+        if (r == null) {
+            r = new SharedRender(template, executor);
+            sharedRenders.put(key, r);
+        }
+        return r;
+    }
+
     /**
      * Main method.
-     * @param args Arguments are ignored.
+     *
+     * @param args The names of the sites to build and any options.
      */
     public static void main(String[] args) {
         new Process().run(args);
     }
-    
+
     /**
      * The runner.
-     * @param args Arguments are ignored.
-    */
+     *
+     * @param args The names of the sites to build and any options.
+     */
     public void run(String[] args) {
-        //MyHome.main(args);
-        //GEOG5003M.main(args);
-        //GEOG5990M.main(args);
-        //GEOG5995M.main(args);
-        //Python0.main(args);
-        //Java0.main(args);
-        CPP0.main(args);
+        Path dir = DIR;
+        int nThreads = Runtime.getRuntime().availableProcessors();
+        Path archive = null;
+        TreeSet<String> names = new TreeSet<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "-d" ->
+                    dir = Paths.get(args[++i]);
+                case "-t" ->
+                    nThreads = Integer.parseInt(args[++i]);
+                case "-a" ->
+                    archive = Paths.get(args[++i]);
+                case "-c" ->
+                    cache = true;
+                case "-l" ->
+                    lazy = true;
+                case "-r" ->
+                    report = true;
+                case "-b" ->
+                    buildDir = Paths.get(args[++i]);
+                case "-v" ->
+                    shareVariants = true;
+                case "--pages" ->
+                    pages = new TreeSet<>(Arrays.asList(args[++i].split(",")));
+                case "all" ->
+                    names.addAll(builders.keySet());
+                default -> {
+                    if (!builders.containsKey(args[i])) {
+                        throw new IllegalArgumentException("Unknown site "
+                                + args[i] + ", expected one of "
+                                + builders.keySet());
+                    }
+                    names.add(args[i]);
+                }
+            }
+        }
+        if (names.isEmpty()) {
+            names.add("CPP0");
+        }
+        ArchiveSink as = null;
+        if (archive != null) {
+            as = ArchiveSink.create(archive, Paths.get(dir.toString(),
+                    Environment.AGDTURNER_GITHUB_IO));
+            sink = as;
+        }
+        TreeMap<String, Long> times = run(names, dir, nThreads);
+        if (as != null) {
+            try {
+                as.close();
+            } catch (IOException ex) {
+                Logger.getLogger(Process.class.getName()).log(Level.SEVERE,
+                        null, ex);
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        sb.append("Built ").append(times.size()).append(" of ")
+                .append(names.size()).append(" sites.");
+        for (var x : times.entrySet()) {
+            sb.append("\n").append(x.getKey()).append(" ")
+                    .append(x.getValue()).append(" ms");
+        }
+        Logger.getLogger(Process.class.getName()).log(Level.INFO,
+                sb.toString());
+    }
+
+    /**
+     * Builds sites concurrently. Each site is built in its own thread and the
+     * pages of all of them are written using a shared pool of nThreads
+     * threads. A site that fails to build is logged and does not stop the
+     * others.
+     *
+     * @param names The names of the sites to build.
+     * @param dir The directory in which the website directory is.
+     * @param nThreads The number of threads for writing pages.
+     * @return A map of the names of the sites built to the time taken in
+     * milliseconds.
+     */
+    public TreeMap<String, Long> run(Collection<String> names, Path dir,
+            int nThreads) {
+        TreeMap<String, Long> r = new TreeMap<>();
+        ExecutorService pages = Executors.newFixedThreadPool(nThreads);
+        ExecutorService sites = Executors.newFixedThreadPool(names.size());
+        try {
+            TreeMap<String, Future<Long>> futures = new TreeMap<>();
+            for (String name : names) {
+                BiConsumer<Path, ExecutorService> builder = builders.get(name);
+                futures.put(name, sites.submit(() -> {
+                    long t = System.nanoTime();
+                    builder.accept(dir, pages);
+                    return (System.nanoTime() - t) / 1_000_000L;
+                }));
+            }
+            for (var x : futures.entrySet()) {
+                try {
+                    r.put(x.getKey(), x.getValue().get());
+                } catch (ExecutionException ex) {
+                    Logger.getLogger(Process.class.getName()).log(Level.SEVERE,
+                            "Failed to build " + x.getKey(), ex.getCause());
+                }
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ex);
+        } finally {
+            sites.shutdown();
+            pages.shutdown();
+        }
+        return r;
     }
-    
-    
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.course;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link DictionaryFile}.
+ *
+ * @author Andy Turner
+ */
+public class DictionaryFileTest {
+
+    /**
+     * @param s The content of a dictionary file.
+     * @return A DictionaryFile named "test" for s.
+     */
+    private static DictionaryFile getFile(String s) {
+        return new DictionaryFile("test", ByteBuffer.wrap(
+                s.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @param s The content of a dictionary file that is not valid.
+     * @return The message of the exception thrown when it is validated.
+     */
+    private static String getError(String s) {
+        return assertThrows(RuntimeException.class, () -> getFile(s))
+                .getMessage();
+    }
+
+    /**
+     * Test that a valid file is added to a dictionary.
+     */
+    @Test
+    public void testValid() {
+        DictionaryFile f = getFile("# A comment\n"
+                + "T\tPython\thttps://www.python.org/\tA \"programming\" "
+                + "language.\r\n"
+                + "\n"
+                + "T\tTab\\tbed\thttps://example.org/\tA\\nB\n"
+                + "A\tpython\tPython\n"
+                + "I\tCPython\tPython\n"
+                + "A\tcpython\tCPython\n");
+        Dictionary d = new Dictionary(null, f);
+        assertEquals(2, d.size());
+        assertEquals("https://www.python.org/", d.getTerm("Python").url);
+        assertEquals("A \"programming\" language.",
+                d.getTerm("Python").getDescription());
+        assertEquals("A\nB", d.getTerm("Tab\tbed").getDescription());
+        assertEquals("Python", d.getTermName("python"));
+        assertEquals("CPython", d.getTermName("cpython"));
+        assertEquals(d.getOrdinal("Python"), d.getOrdinal("cpython"));
+        assertNull(d.getTerm("python"));
+    }
+
+    /**
+     * Test that the line and the problem are given for records that are not
+     * valid.
+     */
+    @Test
+    public void testErrors() {
+        assertEquals("test:2: the record type is not one character",
+                getError("# A comment\nTT\ta\tb\tc\n"));
+        assertEquals("test:1: too few fields", getError("T\ta\n"));
+        assertEquals("test:1: a term has 4 fields",
+                getError("T\ta\thttps://example.org/\n"));
+        assertEquals("test:1: a term has 4 fields",
+                getError("T\ta\tb\tc\td\n"));
+        assertEquals("test:1: an alias has 3 fields",
+                getError("A\ta\tb\tc\n"));
+        assertEquals("test:2: duplicate a",
+                getError("T\ta\tu\td\nA\ta\tb\n"));
+        assertEquals("test:3: unknown record type X",
+                getError("T\ta\tu\td\n\nX\tb\ta\n"));
+    }
+
+    /**
+     * Test that an alias for something that is not a term or an alias is
+     * found when the file is added to a dictionary.
+     */
+    @Test
+    public void testUnknownTerm() {
+        DictionaryFile f = getFile("T\ta\tu\td\nA\tb\tc\n");
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> new Dictionary(null, f));
+        assertEquals("In test alias b is for c which is not a term or alias!",
+                ex.getMessage());
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.course.coding.intro.cpp.process;
+
+import io.github.agdturner.io.MemorySink;
+import java.nio.file.Path;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for building {@link CPP0}. The site is written to a
+ * {@link MemorySink}, so nothing is written to the disk.
+ *
+ * @author Andy Turner
+ */
+public class CPP0Test {
+
+    /**
+     * The directory in which the website directory is.
+     */
+    @TempDir
+    Path dir;
+
+    /**
+     * @param nThreads The number of threads to write pages with, or 0 to
+     * write them sequentially.
+     * @return What is written when CPP0 is built.
+     */
+    private MemorySink build(int nThreads) {
+        CPP0 site = CPP0.create(dir);
+        MemorySink r = new MemorySink();
+        site.sink = r;
+        if (nThreads == 0) {
+            site.write(site.env.dir);
+        } else {
+            site.write(site.env.dir, nThreads);
+        }
+        return r;
+    }
+
+    /**
+     * Test that building sequentially and in parallel give the same bytes
+     * for every file.
+     */
+    @Test
+    public void testParallelBuildIsSameAsSequential() {
+        MemorySink sequential = build(0);
+        MemorySink parallel = build(4);
+        assertTrue(sequential.files.size() > 1);
+        assertEquals(sequential.files.keySet(), parallel.files.keySet());
+        for (var x : sequential.files.entrySet()) {
+            assertArrayEquals(x.getValue(), parallel.files.get(x.getKey()),
+                    x.getKey().toString());
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link ArchiveSink}. Archives are written and read back with the
+ * JDK to check that the hand written formats are readable.
+ *
+ * @author Andy Turner
+ */
+public class ArchiveSinkTest {
+
+    /**
+     * A directory for the archives.
+     */
+    @TempDir
+    Path dir;
+
+    /**
+     * @return The files to write to archives from their names.
+     */
+    private static TreeMap<String, String> getFiles() {
+        TreeMap<String, String> r = new TreeMap<>();
+        r.put("index.html", "<html>\n  <p>Home</p>\n</html>\n");
+        r.put("CPP0/public_html/index.html", "<p>" + "x".repeat(10000)
+                + "</p>");
+        r.put("CPP0/public_html/empty.txt", "");
+        r.put("a/" + "b".repeat(120) + "/c.txt", "A long name.");
+        return r;
+    }
+
+    /**
+     * Writes {@link #getFiles()} to an archive in reverse order.
+     *
+     * @param name The filename of the archive.
+     * @return The archive.
+     * @throws IOException If encountered.
+     */
+    private Path write(String name) throws IOException {
+        Path archive = Paths.get(dir.toString(), name);
+        Path root = Paths.get(dir.toString(), "root");
+        try (ArchiveSink sink = ArchiveSink.create(archive, root)) {
+            for (var x : getFiles().descendingMap().entrySet()) {
+                sink.writeString(Paths.get(root.toString(), x.getKey()),
+                        x.getValue());
+            }
+        }
+        return archive;
+    }
+
+    /**
+     * Test that a zip archive can be read and has the files in order.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testZip() throws IOException {
+        Path archive = write("site.zip");
+        TreeMap<String, String> r = new TreeMap<>();
+        StringBuilder order = new StringBuilder();
+        try (ZipInputStream zis = new ZipInputStream(
+                Files.newInputStream(archive))) {
+            ZipEntry e;
+            while ((e = zis.getNextEntry()) != null) {
+                r.put(e.getName(), new String(zis.readAllBytes(),
+                        StandardCharsets.UTF_8));
+                order.append(e.getName()).append("\n");
+            }
+        }
+        assertEquals(getFiles(), r);
+        assertEquals(String.join("\n", getFiles().keySet()) + "\n",
+                order.toString());
+    }
+
+    /**
+     * Test that a tar archive can be read.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testTar() throws IOException {
+        Path archive = write("site.tar");
+        try (InputStream is = Files.newInputStream(archive)) {
+            assertEquals(getFiles(), readTar(is));
+        }
+    }
+
+    /**
+     * Test that a compressed tar archive can be read.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testTarGz() throws IOException {
+        Path archive = write("site.tar.gz");
+        try (InputStream is = new GZIPInputStream(
+                Files.newInputStream(archive))) {
+            assertEquals(getFiles(), readTar(is));
+        }
+    }
+
+    /**
+     * Test that writing the same files twice gives the same archive.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testDeterministic() throws IOException {
+        for (String name : new String[]{"site.zip", "site.tar",
+            "site.tar.gz"}) {
+            byte[] a = Files.readAllBytes(write(name));
+            byte[] b = Files.readAllBytes(write(name));
+            assertArrayEquals(a, b, name);
+        }
+    }
+
+    /**
+     * Reads a ustar archive.
+     *
+     * @param is The stream to read from.
+     * @return The content of the files in the archive from their names.
+     * @throws IOException If encountered.
+     */
+    private static TreeMap<String, String> readTar(InputStream is)
+            throws IOException {
+        TreeMap<String, String> r = new TreeMap<>();
+        while (true) {
+            byte[] h = is.readNBytes(ArchiveSink.TAR_BLOCK);
+            assertEquals(ArchiveSink.TAR_BLOCK, h.length);
+            if (h[0] == 0) {
+                break;
+            }
+            long sum = 0;
+            for (int i = 0; i < h.length; i++) {
+                sum += (i >= 148 && i < 156) ? ' ' : h[i] & 0xFF;
+            }
+            assertEquals(sum, Long.parseLong(getField(h, 148, 8).trim(), 8));
+            assertEquals("ustar", getField(h, 257, 6));
+            String name = getField(h, 0, 100);
+            String prefix = getField(h, 345, 155);
+            if (!prefix.isEmpty()) {
+                name = prefix + "/" + name;
+            }
+            int size = Integer.parseInt(getField(h, 124, 12), 8);
+            byte[] data = is.readNBytes(size);
+            int pad = (ArchiveSink.TAR_BLOCK - size % ArchiveSink.TAR_BLOCK)
+                    % ArchiveSink.TAR_BLOCK;
+            byte[] padding = is.readNBytes(pad);
+            assertEquals(pad, padding.length);
+            assertFalse(r.containsKey(name), name);
+            r.put(name, new String(data, StandardCharsets.UTF_8));
+        }
+        byte[] end = is.readNBytes(ArchiveSink.TAR_BLOCK);
+        assertArrayEquals(new byte[ArchiveSink.TAR_BLOCK], end);
+        return r;
+    }
+
+    /**
+     * @param h A tar header.
+     * @param offset The offset of the field.
+     * @param length The length of the field.
+     * @return The field up to the first zero byte.
+     */
+    private static String getField(byte[] h, int offset, int length) {
+        int e = offset;
+        while (e < offset + length && h[e] != 0) {
+            e++;
+        }
+        return new String(Arrays.copyOfRange(h, offset, e),
+                StandardCharsets.UTF_8);
+    }
+}
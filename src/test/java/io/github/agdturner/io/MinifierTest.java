@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Centre for Computational Geography.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.agdturner.io;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link Minifier}.
+ *
+ * @author Andy Turner
+ */
+public class MinifierTest {
+
+    /**
+     * @param html Some HTML.
+     * @return html minified.
+     * @throws IOException If encountered.
+     */
+    private static String minify(String html) throws IOException {
+        StringWriter w = new StringWriter();
+        try (Minifier m = new Minifier(w)) {
+            m.write(html);
+        }
+        return w.toString();
+    }
+
+    /**
+     * Test of whitespace and comments outside of preserved elements.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testWhitespaceAndComments() throws IOException {
+        assertEquals("<p> a b </p> <p class=\"x  y\">c</p> ",
+                minify("  <p>  a \n\t b  </p>\n<!-- a comment -->\n"
+                        + "<p   class=\"x  y\" >c</p>\n"));
+    }
+
+    /**
+     * Test that the content of pre and code elements is written exactly,
+     * including nested elements.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testPreAndCode() throws IOException {
+        String pre = "<pre>  a <b>  b </b>\n  <!-- c -->\n</pre>";
+        String code = "<code>x  =  1;\n    y = 2;</code>";
+        assertEquals(pre + " <p> z </p>", minify(pre + "\n\n<p>  z  </p>"));
+        assertEquals(code + " <p> z </p>", minify(code + "  <p> z </p>"));
+        assertEquals("<pre><code>  a\n  b</code>\n</pre> c",
+                minify("<pre><code>  a\n  b</code>\n</pre>\n c"));
+    }
+
+    /**
+     * Test that a less than sign in a script, style or textarea does not stop
+     * the end tag of the element being found.
+     *
+     * @throws IOException If encountered.
+     */
+    @Test
+    public void testRawText() throws IOException {
+        assertEquals("<script>if (a<b) {x();}</script> <p> after text </p>",
+                minify("<script>if (a<b) {x();}</script>\n"
+                        + "<p>  after   text </p>"));
+        assertEquals("<style>a<b</STYLE> <p> x </p>",
+                minify("<style>a<b</STYLE>  <p> x  </p>"));
+        assertEquals("<textarea> a<b  </textarea> c",
+                minify("<textarea> a<b  </textarea>   c"));
+    }
+}